@@ -0,0 +1,63 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.dto.ScheduleListDto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 메일 1통 렌더링 시간 / 할당량 측정
+ * ./gradlew jmh  (gc 프로파일러의 gc.alloc.rate.norm = 메일 1통당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailTemplateRendererBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int scheduleCount;
+
+    private final EmailTemplateRenderer renderer = new EmailTemplateRenderer();
+    private List<ScheduleListDto> schedules;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2025, 6, 1, 9, 0);
+        schedules = new ArrayList<>(scheduleCount);
+        for (int i = 0; i < scheduleCount; i++) {
+            LocalDateTime startAt = base.plusMinutes(random.nextInt(60 * 24 * 7));
+            schedules.add(ScheduleListDto.builder()
+                    .id(Integer.toHexString(i))
+                    .title("캡스톤 디자인 회의 " + i)
+                    .startDate(startAt)
+                    .endDate(startAt.plusHours(1 + random.nextInt(4)))
+                    .categories(List.of("학업"))
+                    .priority(random.nextDouble() * 10)
+                    .status("active")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] scheduleNotice() {
+        return renderer.renderScheduleNotice(schedules, 3);
+    }
+
+    @Benchmark
+    public byte[] topPriorityNotice() {
+        return renderer.renderTopPriorityNotice("홍길동", schedules);
+    }
+}
@@ -0,0 +1,51 @@
+package com.dku.opensource.priorify.priorify_backend.config;
+
+import com.dku.opensource.priorify.priorify_backend.service.EmbeddingCache;
+import com.dku.opensource.priorify.priorify_backend.service.EmbeddingClient;
+import com.dku.opensource.priorify.priorify_backend.util.CircuitBreaker;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class EmbeddingConfig {
+
+    // 제목 임베딩 캐시 (모델 버전이 바뀌면 키가 달라져 새로 임베딩, 메모리 바이트 예산)
+    @Bean
+    public EmbeddingCache embeddingCache(
+            MongoTemplate mongoTemplate,
+            @Value("${priorify.embedding.model-version:v1}") String modelVersion,
+            @Value("${priorify.embedding.cache-max-bytes:33554432}") long cacheMaxBytes) {
+        return new EmbeddingCache(mongoTemplate, modelVersion, cacheMaxBytes);
+    }
+
+    /**
+     * 임베딩 서버 클라이언트 (동시 요청 수, 배치 크기 범위, 배치 크기를 줄이는 기준 지연)
+     * 구글 API 용 RestTemplate 과 분리하여 연결/응답 타임아웃과 서킷 브레이커를 적용
+     */
+    @Bean(destroyMethod = "shutdown")
+    public EmbeddingClient embeddingClient(
+            EmbeddingCache embeddingCache,
+            @Value("${priorify.embedding.connect-timeout-ms:1000}") int connectTimeoutMillis,
+            @Value("${priorify.embedding.read-timeout-ms:10000}") int readTimeoutMillis,
+            @Value("${priorify.embedding.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${priorify.embedding.circuit.open-ms:30000}") long openMillis,
+            @Value("${priorify.embedding.url:http://172.31.43.132:8000/embed}") String embeddingUrl,
+            @Value("${priorify.embedding.max-concurrency:4}") int maxConcurrency,
+            @Value("${priorify.embedding.min-batch-size:1}") int minBatchSize,
+            @Value("${priorify.embedding.max-batch-size:64}") int maxBatchSize,
+            @Value("${priorify.embedding.initial-batch-size:4}") int initialBatchSize,
+            @Value("${priorify.embedding.target-latency-ms:2000}") long targetLatencyMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+
+        return new EmbeddingClient(new RestTemplate(requestFactory), embeddingCache,
+                new CircuitBreaker(failureThreshold, openMillis), embeddingUrl, maxConcurrency,
+                minBatchSize, maxBatchSize, initialBatchSize, targetLatencyMillis);
+    }
+}
@@ -0,0 +1,57 @@
+package com.dku.opensource.priorify.priorify_backend.config;
+
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingVector;
+import com.dku.opensource.priorify.priorify_backend.util.EmbeddingVectorCodec;
+
+import org.bson.types.Binary;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(Arrays.asList(
+                new EmbeddingVectorWriter(),
+                new BinaryEmbeddingVectorReader(),
+                new ListEmbeddingVectorReader()
+        ));
+    }
+
+    // EmbeddingVector -> BSON Binary(float32 vector)
+    @WritingConverter
+    static class EmbeddingVectorWriter implements Converter<EmbeddingVector, Binary> {
+        @Override
+        public Binary convert(EmbeddingVector source) {
+            return EmbeddingVectorCodec.encode(source.getValues());
+        }
+    }
+
+    @ReadingConverter
+    static class BinaryEmbeddingVectorReader implements Converter<Binary, EmbeddingVector> {
+        @Override
+        public EmbeddingVector convert(Binary source) {
+            float[] values = EmbeddingVectorCodec.decode(source);
+            return values != null ? new EmbeddingVector(values) : null;
+        }
+    }
+
+    // 마이그레이션 전 숫자 배열로 저장된 문서 호환
+    @ReadingConverter
+    @SuppressWarnings("rawtypes")
+    static class ListEmbeddingVectorReader implements Converter<List, EmbeddingVector> {
+        @Override
+        public EmbeddingVector convert(List source) {
+            float[] values = EmbeddingVectorCodec.decode(source);
+            return values != null ? new EmbeddingVector(values) : null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.dku.opensource.priorify.priorify_backend.config;
+
+import com.dku.opensource.priorify.priorify_backend.model.NotificationOutbox;
+import com.dku.opensource.priorify.priorify_backend.model.Schedule;
+import com.dku.opensource.priorify.priorify_backend.model.User;
+import com.dku.opensource.priorify.priorify_backend.service.MigrationLog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 엔티티에 선언된 인덱스 생성
+ * (spring.data.mongodb.auto-index-creation 이 꺼져 있으므로 시작 후 직접 ensureIndex)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer {
+
+    private static final String GOOGLE_EVENT_INDEX = "user_google_event";
+    private static final String DEDUPE_MIGRATION_NAME = "schedules-dedupe-google-events";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+    private final MigrationLog migrationLog;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        // 중복이 남아 있으면 unique 인덱스 생성이 실패하므로 먼저 정리 (인덱스가 생긴 뒤로는 실행하지 않음)
+        boolean dedupePending = !migrationLog.isDone(DEDUPE_MIGRATION_NAME);
+        long removedDuplicates = dedupePending ? removeDuplicateGoogleEvents() : 0;
+
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        for (Class<?> entityType : Arrays.asList(Schedule.class, User.class, NotificationOutbox.class)) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entityType);
+            resolver.resolveIndexFor(entityType).forEach(index -> {
+                try {
+                    indexOps.ensureIndex(index);
+                } catch (Exception e) {
+                    log.error("{} 인덱스 생성 실패 ({}): {}", entityType.getSimpleName(), index.getIndexKeys(), e.getMessage());
+                }
+            });
+        }
+
+        if (dedupePending && hasGoogleEventIndex()) {
+            migrationLog.markDone(DEDUPE_MIGRATION_NAME, removedDuplicates);
+        }
+    }
+
+    private boolean hasGoogleEventIndex() {
+        return mongoTemplate.indexOps(Schedule.class).getIndexInfo().stream()
+                .anyMatch(index -> GOOGLE_EVENT_INDEX.equals(index.getName()));
+    }
+
+    /**
+     * 동시 동기화로 생긴 (userId, googleEventId) 중복 스케줄 정리
+     * 가장 최근에 수정된 스케줄 하나만 남기고 삭제 (unique 인덱스가 이미 있으면 중복이 있을 수 없으므로 건너뜀)
+     * @return 삭제한 스케줄 수
+     */
+    private long removeDuplicateGoogleEvents() {
+        if (hasGoogleEventIndex()) {
+            return 0;
+        }
+        List<Document> pipeline = Arrays.asList(
+                new Document("$match", new Document("googleEventId", new Document("$exists", true))),
+                new Document("$sort", new Document("updatedAt", -1)),
+                new Document("$group", new Document("_id", new Document("userId", "$userId").append("googleEventId", "$googleEventId"))
+                        .append("ids", new Document("$push", "$_id"))
+                        .append("count", new Document("$sum", 1))),
+                new Document("$match", new Document("count", new Document("$gt", 1)))
+        );
+
+        List<Object> duplicateIds = new ArrayList<>();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Schedule.class))
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .forEach(group -> {
+                    List<?> ids = group.getList("ids", Object.class);
+                    duplicateIds.addAll(ids.subList(1, ids.size()));
+                });
+
+        if (duplicateIds.isEmpty()) {
+            return 0;
+        }
+        long removed = mongoTemplate.remove(new Query(Criteria.where("_id").in(duplicateIds)), Schedule.class)
+                .getDeletedCount();
+        log.warn("중복된 구글 이벤트 스케줄 {}개 삭제", removed);
+        return removed;
+    }
+}
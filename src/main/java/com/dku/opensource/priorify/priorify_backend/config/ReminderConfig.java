@@ -0,0 +1,34 @@
+package com.dku.opensource.priorify.priorify_backend.config;
+
+import com.dku.opensource.priorify.priorify_backend.service.MailDeliveryPipeline;
+import com.dku.opensource.priorify.priorify_backend.service.ReminderJobExecutor;
+import com.dku.opensource.priorify.priorify_backend.util.TokenBucketRateLimiter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+@Configuration
+public class ReminderConfig {
+
+    // 알림 배치 작업 실행기 (워커 수)
+    @Bean(destroyMethod = "shutdown")
+    public ReminderJobExecutor reminderJobExecutor(
+            @Value("${priorify.reminder.workers:16}") int workers) {
+        return new ReminderJobExecutor(workers);
+    }
+
+    // 메일 발송 파이프라인 (큐 크기, 발송 스레드 = 동시 SMTP 연결 수, 연결당 발송 수, 발송 속도)
+    @Bean(destroyMethod = "shutdown")
+    public MailDeliveryPipeline mailDeliveryPipeline(
+            JavaMailSender javaMailSender,
+            @Value("${priorify.mail.queue-capacity:1000}") int queueCapacity,
+            @Value("${priorify.mail.sender-threads:4}") int senderThreads,
+            @Value("${priorify.mail.messages-per-connection:20}") int messagesPerConnection,
+            @Value("${priorify.mail.rate-per-second:20}") double ratePerSecond,
+            @Value("${priorify.mail.burst:20}") int burst) {
+        return new MailDeliveryPipeline(javaMailSender, new TokenBucketRateLimiter(ratePerSecond, burst),
+                queueCapacity, senderThreads, messagesPerConnection);
+    }
+}
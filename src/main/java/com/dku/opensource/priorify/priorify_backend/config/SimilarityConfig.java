@@ -0,0 +1,36 @@
+package com.dku.opensource.priorify.priorify_backend.config;
+
+import com.dku.opensource.priorify.priorify_backend.service.AtlasVectorSearchEngine;
+import com.dku.opensource.priorify.priorify_backend.service.InMemoryVectorIndex;
+import com.dku.opensource.priorify.priorify_backend.service.SimilarityEngine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@Configuration
+public class SimilarityConfig {
+
+    @Bean
+    public InMemoryVectorIndex inMemoryVectorIndex(
+            MongoTemplate mongoTemplate,
+            @Value("${priorify.similarity.cache-ttl-seconds:300}") long cacheTtlSeconds,
+            @Value("${priorify.similarity.max-users:1000}") int maxUsers) {
+        return new InMemoryVectorIndex(mongoTemplate, cacheTtlSeconds * 1000, maxUsers);
+    }
+
+    // memory: JVM 내 인덱스, atlas: Atlas vector_index 사용 (실패 시 memory 로 대체)
+    @Bean
+    @Primary
+    public SimilarityEngine similarityEngine(
+            @Value("${priorify.similarity.engine:memory}") String engine,
+            MongoTemplate mongoTemplate,
+            InMemoryVectorIndex inMemoryVectorIndex) {
+        if ("atlas".equalsIgnoreCase(engine)) {
+            return new AtlasVectorSearchEngine(mongoTemplate, inMemoryVectorIndex);
+        }
+        return inMemoryVectorIndex;
+    }
+}
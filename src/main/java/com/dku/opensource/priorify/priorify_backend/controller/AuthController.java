@@ -8,6 +8,7 @@ import com.dku.opensource.priorify.priorify_backend.dto.CalendarSyncResultDto;
 import com.dku.opensource.priorify.priorify_backend.dto.GoogleLoginRequest;
 import com.dku.opensource.priorify.priorify_backend.model.User;
 import com.dku.opensource.priorify.priorify_backend.security.JwtTokenProvider;
+import com.dku.opensource.priorify.priorify_backend.security.UserPrincipalCache;
 import lombok.extern.slf4j.Slf4j;
 
 import org.bson.Document;
@@ -56,6 +57,9 @@ public class AuthController {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
     @Autowired
     private RestTemplate restTemplate;
     
@@ -87,11 +91,12 @@ public class AuthController {
                     user.setGoogleId(googleId);
                     user.setEmail(email);
                     user.setName(name);
-                    userService.save(user);
+                    user = userService.save(user);
+                    userPrincipalCache.invalidate(user.getId());
                     log.info("새 구글 사용자 등록: {}", email);
                 }
                 
-                String token = jwtTokenProvider.generateToken(user.getName());
+                String token = jwtTokenProvider.generateToken(user);
                 
                 // 응답 헤더에 JWT 토큰 추가
                 HttpHeaders headers = new HttpHeaders();
@@ -179,13 +184,14 @@ public class AuthController {
                 user.setEmail(email);
                 user.setName(name);
                 
-                userService.save(user);
+                user = userService.save(user);
+                userPrincipalCache.invalidate(user.getId());
                 log.info("새 구글 사용자 등록: {}", email);
                 isNewUser = true;
             }
             
             // 5. JWT 토큰 생성
-            String token = jwtTokenProvider.generateToken(user.getName());
+            String token = jwtTokenProvider.generateToken(user);
             
             // 6. HTTP 응답 헤더에 토큰 추가
             HttpHeaders responseHeaders = new HttpHeaders();
@@ -78,9 +78,8 @@ public class ScheduleController {
             @Valid @RequestBody Schedule schedule) {
         String userId = (String) request.getAttribute("userId");
         
-        // 기존 스케줄 조회 및 권한 확인
-        Schedule existingSchedule = scheduleService.getScheduleById(scheduleId);
-        if (existingSchedule == null || !existingSchedule.getUserId().toString().equals(userId)) {
+        // 권한 확인
+        if (!scheduleService.isScheduleOwner(scheduleId, userId)) {
             return ResponseEntity.notFound().build();
         }
         
@@ -99,15 +98,13 @@ public class ScheduleController {
             @PathVariable String scheduleId) {
         String userId = (String) request.getAttribute("userId");
         
-        // 기존 스케줄 조회 및 권한 확인
-        Schedule existingSchedule = scheduleService.getScheduleById(scheduleId);
-        if (existingSchedule == null || !existingSchedule.getUserId().toString().equals(userId)) {
+        // 권한 확인
+        if (!scheduleService.isScheduleOwner(scheduleId, userId)) {
             return ResponseEntity.notFound().build();
         }
         
         // soft delete (상태를 inactive로 변경)
-        existingSchedule.setStatus("inactive");
-        scheduleService.updateSchedule(existingSchedule);
+        scheduleService.updateScheduleStatus(userId, scheduleId, "inactive");
         
         return ResponseEntity.ok().build();
     }
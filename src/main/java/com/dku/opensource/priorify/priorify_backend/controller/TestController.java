@@ -49,7 +49,7 @@ public class TestController {
             User user = userOpt.get();
             
             // 정확한 가중치 알고리즘을 사용하여 상위 우선순위 스케줄 조회
-            List<ScheduleListDto> topSchedules = scheduleService.getTopPrioritySchedulesWithWeights(userId, user, 2);
+            List<ScheduleListDto> topSchedules = scheduleService.getTopPrioritySchedulesWithWeights(userId, 2);
             List<ScheduleListDto> allSchedules = scheduleService.getUserSchedules(userId);
 
             response.put("success", true);
@@ -94,7 +94,7 @@ public class TestController {
             }
 
             // 정확한 가중치 알고리즘을 사용하여 상위 우선순위 스케줄 조회
-            List<ScheduleListDto> topSchedules = scheduleService.getTopPrioritySchedulesWithWeights(userId, user, 2);
+            List<ScheduleListDto> topSchedules = scheduleService.getTopPrioritySchedulesWithWeights(userId, 2);
 
             if (topSchedules.isEmpty()) {
                 response.put("success", false);
@@ -103,7 +103,7 @@ public class TestController {
             }
 
             // 이메일 발송
-            emailService.sendTopPriorityScheduleNotice(user.getEmail(), user.getName(), topSchedules);
+            emailService.sendTopPriorityScheduleNotice(user.getEmail(), user.getName(), topSchedules).join();
             
             response.put("success", true);
             response.put("message", "상위 우선순위 스케줄 알림 이메일이 성공적으로 발송되었습니다.");
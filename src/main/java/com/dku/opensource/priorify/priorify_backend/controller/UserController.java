@@ -1,5 +1,6 @@
 package com.dku.opensource.priorify.priorify_backend.controller;
 
+import com.dku.opensource.priorify.priorify_backend.security.UserPrincipalCache;
 import com.dku.opensource.priorify.priorify_backend.service.UserService;
 import com.dku.opensource.priorify.priorify_backend.model.User;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,15 +13,19 @@ import org.bson.types.ObjectId;
 public class UserController {
 
     private final UserService userService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserPrincipalCache userPrincipalCache) {
         this.userService = userService;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     @PostMapping
     public ResponseEntity<User> createUser(@RequestBody User user) {
-        return ResponseEntity.ok(userService.save(user));
+        User saved = userService.save(user);
+        userPrincipalCache.invalidate(saved.getId()); // 같은 id 의 기존 사용자를 덮어쓸 수 있음
+        return ResponseEntity.ok(saved);
     }
 
     @GetMapping("/{id}")
@@ -1,6 +1,7 @@
 package com.dku.opensource.priorify.priorify_backend.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingVector;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,10 +26,11 @@ public class GoogleCalendarEventDto {
     private LocalDateTime endAt;
     
     // 임베딩 관련 필드 (처리 후 추가됨)
-    private List<Double> embedding;
+    private EmbeddingVector embedding;
     private List<String> categories;
     private String originalText;
     
     // 구글 원본 데이터 보존용
     private String googleEventId;
+    private String status; // confirmed, tentative, cancelled (증분 동기화 시 삭제된 이벤트)
 } 
\ No newline at end of file
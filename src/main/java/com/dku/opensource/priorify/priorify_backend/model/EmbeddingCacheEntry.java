@@ -0,0 +1,33 @@
+package com.dku.opensource.priorify.priorify_backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 임베딩 결과 캐시
+ * _id = sha256(모델 버전 + 정규화된 제목) 이므로 같은 제목은 사용자와 관계없이 한 번만 임베딩한다.
+ */
+@Document(collection = "embedding_cache")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmbeddingCacheEntry {
+
+    @Id
+    private String id;
+
+    private String modelVersion;
+    private String text; // 정규화된 제목
+    private EmbeddingVector embedding; // float32 Binary 로 저장
+    private List<String> categories;
+    private LocalDateTime createdAt;
+}
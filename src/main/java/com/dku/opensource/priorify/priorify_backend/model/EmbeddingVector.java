@@ -0,0 +1,78 @@
+package com.dku.opensource.priorify.priorify_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 스케줄 임베딩 벡터 (float32)
+ * MongoDB 에는 BSON Binary(subtype 9, float32 vector)로 저장된다. -> MongoConfig 참고
+ */
+public final class EmbeddingVector {
+
+    private final float[] values;
+
+    public EmbeddingVector(float[] values) {
+        this.values = values;
+    }
+
+    // JSON 배열 -> 벡터
+    @JsonCreator
+    public static EmbeddingVector fromJson(float[] values) {
+        return values != null ? new EmbeddingVector(values) : null;
+    }
+
+    // FastAPI 응답 등 List<Double> -> 벡터 (비어있으면 null)
+    public static EmbeddingVector of(List<? extends Number> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        float[] floats = new float[values.size()];
+        for (int i = 0; i < floats.length; i++) {
+            floats[i] = values.get(i).floatValue();
+        }
+        return new EmbeddingVector(floats);
+    }
+
+    // 내부 배열을 그대로 반환하므로 수정하지 말 것
+    @JsonValue
+    public float[] getValues() {
+        return values;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public List<Double> toList() {
+        List<Double> list = new ArrayList<>(values.length);
+        for (float value : values) {
+            list.add((double) value);
+        }
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EmbeddingVector)) return false;
+        return Arrays.equals(values, ((EmbeddingVector) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "EmbeddingVector(dimensions=" + values.length + ")";
+    }
+}
@@ -0,0 +1,54 @@
+package com.dku.opensource.priorify.priorify_backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 알림 메일 (렌더링 완료된 본문 포함)
+ * _id = userId:날짜:종류 이므로 같은 날 같은 알림은 한 번만 등록된다.
+ * 발송 완료 문서는 7일 뒤 TTL 인덱스로 삭제 (알림은 당일 날짜로만 등록되므로 중복 방지에 충분한 기간)
+ */
+@Document(collection = "notification_outbox")
+@CompoundIndex(name = "status_lease", def = "{ 'status': 1, 'leaseUntil': 1 }")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENDING = "SENDING";
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    private String id;
+
+    private ObjectId userId;
+    private String date; // yyyy-MM-dd
+    private String kind;
+
+    private String email;
+    private String subject;
+    private byte[] html; // UTF-8 HTML 본문
+
+    private String status; // PENDING, SENDING, SENT, FAILED
+    private int attempts;
+    private LocalDateTime leaseUntil; // 이 시각 이후 다시 가져갈 수 있음 (PENDING: 재시도 대기, SENDING: 처리 중 임대)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    @Indexed(name = "sent_ttl", expireAfter = "7d")
+    private LocalDateTime sentAt;
+}
@@ -20,7 +20,11 @@ import java.util.List;
 
 @Document(collection = "schedules")
 @CompoundIndexes({
-  @CompoundIndex(name = "user_start", def = "{ 'userId': 1, 'startAt': 1 }")
+  @CompoundIndex(name = "user_start", def = "{ 'userId': 1, 'startAt': 1 }"),
+  @CompoundIndex(name = "user_priority", def = "{ 'userId': 1, 'priorityScore': -1 }"),
+  @CompoundIndex(name = "start_status", def = "{ 'startAt': 1, 'status': 1 }"), // 전체 사용자 알림 대상 범위 스캔
+  @CompoundIndex(name = "user_google_event", def = "{ 'userId': 1, 'googleEventId': 1 }", unique = true,
+          partialFilter = "{ 'googleEventId': { '$exists': true } }") // 구글 이벤트 중복 저장 방지 (직접 만든 스케줄 제외)
   // Vector Search Index 는 Atlas 에서 추가
 })
 @Data
@@ -39,7 +43,12 @@ public class Schedule {
 
     
     private String googleEventId;
-    private List<Double> embedding;
+    private EmbeddingVector embedding; // float32 Binary 로 저장
+
+    @Indexed(sparse = true)
+    private Boolean embeddingPending; // 임베딩 서버 장애로 임베딩 없이 저장됨 -> 복구 후 재임베딩
+    private Integer embeddingRetryCount; // 재임베딩 실패 횟수
+    private LocalDateTime embeddingRetryAt; // 이 시각 이후 다시 재임베딩 시도 (실패할수록 간격 증가)
 
     private List<String> categories; // 일정 카테고리 (학교, 취업, 취미, 친목, 등등)
 
@@ -49,6 +58,14 @@ public class Schedule {
     private String status; // 일정 상태 (active, completed)
     private List<ObjectId> connections; // 인접 일정 id
 
+    // 중요도 사전 계산 값 (PriorityMaterializer 가 유지)
+    private Double categoryWeight;    // 카테고리 중 최대 가중치
+    private Double urgencyScore;      // 마지막 갱신 시점의 긴급도
+    private Double priorityScore;     // categoryWeight * urgencyScore
+
+    @Indexed(sparse = true)
+    private LocalDateTime urgencyRefreshAt; // 긴급도를 다시 계산해야 하는 시점
+
     @CreatedDate
     private LocalDateTime createdAt;
 
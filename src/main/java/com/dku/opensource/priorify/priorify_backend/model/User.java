@@ -32,6 +32,12 @@ public class User {
     private List<CategoryPriority> highPriorities;
     private List<CategoryPriority> lowPriorities;
 
+    // 우선순위 설정이 바뀔 때마다 증가 (가중치 Expression 캐시 키)
+    private long priorityVersion;
+
+    // 구글 캘린더 증분 동기화 토큰 (events.list nextSyncToken)
+    private String googleSyncToken;
+
     public List<CategoryPriority> getHighPriorities() {
         return highPriorities != null ? highPriorities : new ArrayList<>();
     }
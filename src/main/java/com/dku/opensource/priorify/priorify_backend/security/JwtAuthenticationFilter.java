@@ -1,5 +1,8 @@
 package com.dku.opensource.priorify.priorify_backend.security;
 
+import com.dku.opensource.priorify.priorify_backend.model.User;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -9,16 +12,25 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import org.springframework.util.AntPathMatcher;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RequestUserContext requestUserContext;
+    private final boolean verifyUser;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserPrincipalCache userPrincipalCache,
+                                   RequestUserContext requestUserContext,
+                                   @Value("${priorify.auth.verify-user:true}") boolean verifyUser) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userPrincipalCache = userPrincipalCache;
+        this.requestUserContext = requestUserContext;
+        this.verifyUser = verifyUser;
     }
 
     @Override
@@ -28,10 +40,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
 
         try {
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
-                String userId = jwtTokenProvider.getUserIdFromToken(token);
-                request.setAttribute("userId", userId);
+            // 토큰은 한 번만 파싱하고, 인증 객체는 클레임만으로 구성 (DB 조회 없음)
+            Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+            if (claims != null) {
+                // 탈퇴 등으로 없어진 사용자의 토큰 거부 (캐시된 사용자로 확인), 확인한 사용자는 요청 동안 서비스에서 재사용
+                if (verifyUser) {
+                    Optional<User> user = userPrincipalCache.get(claims.getSubject());
+                    if (!user.isPresent()) {
+                        SecurityContextHolder.clearContext();
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid JWT token");
+                        return;
+                    }
+                    requestUserContext.set(request, user.get());
+                }
+                Authentication auth = jwtTokenProvider.getAuthentication(claims);
+                request.setAttribute("userId", claims.getSubject());
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
         } catch (Exception ex) {
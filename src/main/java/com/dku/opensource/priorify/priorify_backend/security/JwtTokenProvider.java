@@ -1,6 +1,5 @@
 package com.dku.opensource.priorify.priorify_backend.security;
 
-import com.dku.opensource.priorify.priorify_backend.service.UserService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -10,110 +9,75 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import com.dku.opensource.priorify.priorify_backend.model.User;
-import org.bson.types.ObjectId;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Date;
 
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    private final JwtParser jwtParser; // 스레드 안전, 요청마다 새로 만들지 않음
     private final long jwtExpiration;
-    private final CustomUserDetailsService customUserDetailsService;
-    private final UserService userService;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String jwtSecret,
-            @Value("${jwt.expiration}") long jwtExpiration,
-            CustomUserDetailsService customUserDetailsService,
-            UserService userService) {
+            @Value("${jwt.expiration}") long jwtExpiration) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.jwtExpiration = jwtExpiration;
-        this.customUserDetailsService = customUserDetailsService;
-        this.userService = userService;
     }
 
-    public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userService.findByName(userDetails.getUsername());
-        
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpiration);
-
-        return Jwts.builder()
-                .setSubject(user.getId().toString())
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key)
-                .compact();
+    public String generateToken(User user) {
+        return generateToken(user.getId().toHexString());
     }
 
-    public String generateToken(String name) {
-        User user = userService.findByName(name);
-        
+    // 이름은 중복될 수 있으므로 id 로만 토큰 발급 (DB 조회 없음)
+    public String generateToken(String userId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
-                .setSubject(user.getId().toString())
+                .setSubject(userId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        String userId = claims.getSubject();
-        User user = userService.findById(new ObjectId(userId))
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getName();
-    }
-
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * 서명/만료 검증과 클레임 추출을 한 번에 처리
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SignatureException ex) {
             // 유효하지 않은 JWT 서명
-            return false;
+            return null;
         } catch (MalformedJwtException ex) {
             // 유효하지 않은 JWT 토큰
-            return false;
+            return null;
         } catch (ExpiredJwtException ex) {
             // 만료된 JWT 토큰
-            return false;
+            return null;
         } catch (UnsupportedJwtException ex) {
             // 지원되지 않는 JWT 토큰
-            return false;
+            return null;
         } catch (IllegalArgumentException ex) {
             // JWT claims string이 비어있음
-            return false;
+            return null;
         }
     }
 
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(getUsernameFromToken(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    // 클레임만으로 인증 객체 구성 (DB 조회 없음, 사용자 정보가 필요하면 컨트롤러/서비스에서 userId 로 조회)
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails principal = new org.springframework.security.core.userdetails.User(
+                claims.getSubject(), "", Collections.emptyList());
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.dku.opensource.priorify.priorify_backend.security;
+
+import com.dku.opensource.priorify.priorify_backend.model.User;
+import com.dku.opensource.priorify.priorify_backend.service.UserService;
+
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Optional;
+
+/**
+ * 요청 단위 사용자 조회
+ * - 인증 필터가 확인한 사용자를 요청 속성에 담아두고, 서비스는 같은 요청 안에서 다시 조회하지 않음
+ * - 필터가 담지 않았으면 처음 조회한 사용자를 요청 속성에 담아 재사용
+ * - 요청 밖(스케줄러, 비동기 스레드)에서는 매번 DB 조회
+ * 필터가 담은 사용자는 UserPrincipalCache 의 값이므로 수정하지 말 것
+ * 캐시 TTL 동안 카테고리 가중치가 이전 값일 수 있으므로 조회(읽기) 경로에서만 사용하고,
+ * 중요도를 계산해 저장하는 쓰기 경로는 UserService 로 직접 조회한다.
+ */
+@Component
+public class RequestUserContext {
+
+    private static final String USER_ATTRIBUTE = RequestUserContext.class.getName() + ".user";
+
+    private final UserService userService;
+
+    public RequestUserContext(UserService userService) {
+        this.userService = userService;
+    }
+
+    public void set(HttpServletRequest request, User user) {
+        request.setAttribute(USER_ATTRIBUTE, user);
+    }
+
+    public Optional<User> findById(ObjectId userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return userService.findById(userId);
+        }
+
+        Object cached = attributes.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof User && userId.equals(((User) cached).getId())) {
+            return Optional.of((User) cached);
+        }
+        Optional<User> user = userService.findById(userId);
+        user.ifPresent(found -> attributes.setAttribute(USER_ATTRIBUTE, found, RequestAttributes.SCOPE_REQUEST));
+        return user;
+    }
+}
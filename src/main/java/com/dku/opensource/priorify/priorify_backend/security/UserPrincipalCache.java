@@ -0,0 +1,86 @@
+package com.dku.opensource.priorify.priorify_backend.security;
+
+import com.dku.opensource.priorify.priorify_backend.model.User;
+import com.dku.opensource.priorify.priorify_backend.service.UserService;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증된 사용자 캐시 (userId -> User)
+ * - 최대 maxUsers 명, 접근 순서 기준 LRU
+ * - ttl 이 지나면 다시 조회 (다른 인스턴스에서 바뀐 값 반영)
+ * - 없는 사용자(탈퇴 등)도 ttl 동안 캐시하여 같은 토큰으로 반복 요청해도 DB 를 조회하지 않음
+ * 사용자 문서를 바꾸는 쪽에서 invalidate 를 호출해야 한다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final class Entry {
+        private final User user; // null 이면 없는 사용자
+        private final long loadedAt;
+
+        private Entry(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final UserService userService;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserPrincipalCache(UserService userService,
+                              @Value("${priorify.auth.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                              @Value("${priorify.auth.principal-cache.max-users:10000}") int maxUsers) {
+        this.userService = userService;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    public Optional<User> get(String userId) {
+        if (!ObjectId.isValid(userId)) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.loadedAt < ttlMillis) {
+            return Optional.ofNullable(entry.user);
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        User user = userService.findById(new ObjectId(userId)).orElse(null);
+        // 조회 중 무효화가 있었다면 캐시에 넣지 않음 (오래된 값이 남지 않도록)
+        // 확인과 저장 사이에 invalidate 가 끼어들지 않도록 entries 잠금 안에서 함께 처리
+        synchronized (entries) {
+            if (invalidations.get() == invalidationsBeforeLoad) {
+                entries.put(userId, new Entry(user, now));
+            }
+        }
+        return Optional.ofNullable(user);
+    }
+
+    public void invalidate(String userId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(userId);
+        }
+    }
+
+    public void invalidate(ObjectId userId) {
+        invalidate(userId.toHexString());
+    }
+}
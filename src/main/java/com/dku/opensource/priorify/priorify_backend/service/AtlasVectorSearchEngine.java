@@ -0,0 +1,117 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingVector;
+import com.dku.opensource.priorify.priorify_backend.util.EmbeddingVectorCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Atlas $vectorSearch(vector_index) 기반 유사도 엔진
+ * Atlas 가 아닌 환경에서 실패하거나, vector_index 가 없어 결과가 비어 있으면 fallback 엔진으로 대체한다.
+ * (인덱스가 없을 때 $vectorSearch 는 예외 없이 빈 결과를 반환함)
+ *
+ * 쿼리 벡터마다 aggregate 를 한 번씩 실행한다.
+ * $vectorSearch 는 파이프라인의 첫 단계여야 하고 $facet 안에서 쓸 수 없으며,
+ * $unionWith 하위 파이프라인 지원은 MongoDB 8.0 부터라 여러 벡터를 한 번의 aggregate 로 묶을 수 없다.
+ */
+@Slf4j
+public class AtlasVectorSearchEngine implements SimilarityEngine {
+
+    private static final String VECTOR_INDEX = "vector_index";
+
+    private final MongoTemplate mongoTemplate;
+    private final SimilarityEngine fallback;
+
+    public AtlasVectorSearchEngine(MongoTemplate mongoTemplate, SimilarityEngine fallback) {
+        this.mongoTemplate = mongoTemplate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Map<String, List<String>> findSimilarScheduleIds(String userId, Collection<String> scheduleIds, int limit) {
+        try {
+            Map<String, List<String>> result = vectorSearch(userId, scheduleIds, limit);
+            if (result == null) {
+                log.warn("Vector Search 결과가 비어 있습니다 ({} 인덱스 확인 필요), 인메모리 인덱스로 대체합니다.", VECTOR_INDEX);
+                return fallback.findSimilarScheduleIds(userId, scheduleIds, limit);
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("Vector Search 실행 실패, 인메모리 인덱스로 대체합니다: {}", e.getMessage());
+            return fallback.findSimilarScheduleIds(userId, scheduleIds, limit);
+        }
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        fallback.invalidate(userId);
+    }
+
+    // 임베딩이 있는 쿼리 벡터에 대해 Atlas 가 아무 문서도 반환하지 않으면 null (인덱스 없음으로 판단)
+    private Map<String, List<String>> vectorSearch(String userId, Collection<String> scheduleIds, int limit) {
+        Map<String, List<String>> result = new HashMap<>();
+        List<ObjectId> objectIds = scheduleIds.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .collect(Collectors.toList());
+        if (objectIds.isEmpty()) {
+            return result;
+        }
+
+        // 쿼리 벡터는 한 번에 조회
+        Map<String, List<Double>> queryVectors = new HashMap<>();
+        for (Document doc : mongoTemplate.getCollection("schedules")
+                .find(new Document("_id", new Document("$in", objectIds))
+                    .append("embedding", new Document("$exists", true)))
+                .projection(new Document("embedding", 1))) {
+            float[] values = EmbeddingVectorCodec.decode(doc.get("embedding"));
+            if (values != null && values.length > 0) {
+                queryVectors.put(doc.getObjectId("_id").toHexString(), new EmbeddingVector(values).toList());
+            }
+        }
+
+        int rawHits = 0; // 임계값/자기 자신 제외 전 결과 수
+        for (Map.Entry<String, List<Double>> entry : queryVectors.entrySet()) {
+            List<Document> pipeline = Arrays.asList(
+                new Document("$vectorSearch", new Document()
+                    .append("index", VECTOR_INDEX)
+                    .append("path", "embedding")
+                    .append("queryVector", entry.getValue())
+                    .append("numCandidates", 100)
+                    .append("limit", 20)
+                    .append("filter", new Document()
+                        .append("userId", new ObjectId(userId))
+                        .append("status", "active"))),
+                new Document("$project", new Document()
+                    .append("_id", new Document("$toString", "$_id"))
+                    .append("similarity", new Document("$meta", "vectorSearchScore")))
+            );
+
+            List<Document> results = new ArrayList<>();
+            mongoTemplate.getCollection("schedules")
+                    .aggregate(pipeline, Document.class)
+                    .into(results);
+            rawHits += results.size();
+
+            result.put(entry.getKey(), results.stream()
+                    .filter(doc -> !entry.getKey().equals(doc.getString("_id")))
+                    .filter(doc -> doc.get("similarity", Number.class).doubleValue() >= SIMILARITY_THRESHOLD)
+                    .limit(limit)
+                    .map(doc -> doc.getString("_id"))
+                    .collect(Collectors.toList()));
+        }
+        return queryVectors.isEmpty() || rawHits > 0 ? result : null;
+    }
+}
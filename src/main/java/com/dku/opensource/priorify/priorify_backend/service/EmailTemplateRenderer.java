@@ -0,0 +1,411 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.dto.ScheduleListDto;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.TextStyle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 알림 메일 HTML 렌더러
+ * head/CSS 와 고정 문구는 클래스 로딩 시 한 번만 UTF-8 바이트로 만들어 두고,
+ * 메일마다 스케줄별 값(제목, 날짜, 상태, 중요도)만 바이트 버퍼에 채운다.
+ * 날짜("M월 d일 (E) HH:mm")와 중요도("%.2f")도 포매터 없이 직접 쓴다.
+ */
+@Component
+public class EmailTemplateRenderer {
+
+    // ===== 스케줄 알림 메일 =====
+    private static final String SCHEDULE_STYLE =
+            "<html><head><style>"
+            + "body { font-family: Arial, sans-serif; margin: 20px; background-color: #f9f9f9; color: #333; }"
+            + "h1 { color: #2c3e50; border-bottom: 2px solid #3498db; padding-bottom: 10px; }"
+            + ".container { background-color: #ffffff; padding: 20px; border-radius: 8px; box-shadow: 0 2px 4px rgba(0,0,0,0.1); }"
+            + "ul { list-style-type: none; padding: 0; }"
+            + "li { background-color: #ecf0f1; margin-bottom: 10px; padding: 15px; border-radius: 5px; border-left: 5px solid #3498db; }"
+            + "li.high-priority { border-left-color: #e74c3c; background-color: #fdedec; }"
+            + "li.medium-priority { border-left-color: #f39c12; background-color: #fef5e7; }"
+            + "strong { color: #3498db; }"
+            + "li.high-priority strong { color: #e74c3c; }"
+            + "li.medium-priority strong { color: #f39c12; }"
+            + ".schedule-title { font-size: 1.1em; font-weight: bold; margin-bottom: 5px; }"
+            + ".schedule-meta { font-size: 0.9em; color: #7f8c8d; }"
+            + ".footer { margin-top: 20px; text-align: center; font-size: 0.8em; color: #95a5a6; }";
+    private static final byte[] SCHEDULE_HEAD = utf8(SCHEDULE_STYLE
+            + "</style></head><body>"
+            + "<div class='container'>");
+    private static final byte[] GREETING_TODAY = utf8("<h1>오늘 처리해야 할 중요한 작업이 있습니다!</h1>");
+    private static final byte[] GREETING_TOMORROW = utf8("<h1>내일 마감되는 주요 스케줄을 확인하세요!</h1>");
+    private static final byte[] GREETING_DAYS_PREFIX = utf8("<h1>");
+    private static final byte[] GREETING_DAYS_SUFFIX = utf8("일 후 시작되거나 마감되는 스케줄 알림입니다.</h1>");
+    private static final byte[] NO_SCHEDULES = utf8("<p>알림 드릴 스케줄이 없습니다.</p>");
+    private static final byte[] LIST_OPEN = utf8("<ul>");
+    private static final byte[] LIST_CLOSE = utf8("</ul>");
+    // 중요도 구간별 (0: 보통, 1: 중요, 2: 매우 중요)
+    private static final byte[][] ITEM_OPEN = {
+            utf8("<li class=''><div class='schedule-title'>"),
+            utf8("<li class='medium-priority'><div class='schedule-title'>"),
+            utf8("<li class='high-priority'><div class='schedule-title'>")
+    };
+    private static final byte[][] ITEM_PRIORITY = {
+            utf8(" | 중요도: <strong>보통 ("),
+            utf8(" | 중요도: <strong>중요 ("),
+            utf8(" | 중요도: <strong>매우 중요 (")
+    };
+    private static final byte[] ITEM_META = utf8("</div><div class='schedule-meta'>");
+    private static final byte[] ITEM_START = utf8("시작: <strong>");
+    private static final byte[] ITEM_END = utf8(" (마감: <strong>");
+    private static final byte[] ITEM_END_CLOSE = utf8("</strong>)");
+    private static final byte[] ITEM_STATUS = utf8("<br>상태: ");
+    private static final byte[] ITEM_CLOSE = utf8(")</strong></div></li>");
+
+    // ===== 일일 알림 묶음(digest) 메일 =====
+    private static final byte[] DIGEST_HEAD = utf8(SCHEDULE_STYLE
+            + "h2 { color: #2c3e50; margin-top: 25px; }"
+            + "</style></head><body>"
+            + "<div class='container'>"
+            + "<h1>Priorify 스케줄 알림</h1>");
+    private static final byte[] SECTION_OPEN = utf8("<h2>");
+    private static final byte[] SECTION_CLOSE = utf8("</h2>");
+
+    private static final byte[] SCHEDULE_FOOTER = utf8(
+            "<div class='footer'><p>&copy; Priorify - 당신의 우선순위를 관리하세요.</p></div>"
+            + "</div></body></html>");
+
+    // ===== 상위 우선순위 알림 메일 =====
+    private static final byte[] TOP_HEAD = utf8(
+            "<!DOCTYPE html><html><head>"
+            + "<meta charset='UTF-8'>"
+            + "<meta name='viewport' content='width=device-width, initial-scale=1.0'>"
+            + "<style>"
+            + "body { font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif; margin: 0; padding: 20px; background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: #333; }"
+            + ".email-container { max-width: 600px; margin: 0 auto; background: #ffffff; border-radius: 15px; overflow: hidden; box-shadow: 0 20px 40px rgba(0,0,0,0.1); }"
+            + ".header { background: linear-gradient(135deg, #ff6b6b 0%, #ee5a24 100%); padding: 30px; text-align: center; color: white; }"
+            + ".header h1 { margin: 0; font-size: 28px; font-weight: 700; text-shadow: 2px 2px 4px rgba(0,0,0,0.3); color: #ffffff; }"
+            + ".header .emoji { font-size: 40px; margin-bottom: 10px; display: block; }"
+            + ".greeting { padding: 25px 30px 15px; font-size: 18px; color: #2c3e50; background: #ffffff; }"
+            + ".schedule-card { margin: 20px 30px; padding: 25px; background: #ffffff; border-radius: 12px; border-left: 6px solid #e74c3c; box-shadow: 0 8px 16px rgba(0,0,0,0.1); position: relative; overflow: hidden; border: 1px solid #e9ecef; }"
+            + ".schedule-card:nth-child(even) { border-left-color: #3498db; }"
+            + ".schedule-card::before { content: ''; position: absolute; top: 0; right: 0; width: 100px; height: 100px; background: radial-gradient(circle, rgba(52, 152, 219, 0.1) 0%, transparent 70%); border-radius: 50%; transform: translate(50%, -50%); }"
+            + ".schedule-rank { position: absolute; top: 15px; right: 20px; background: #e74c3c; color: #ffffff; border-radius: 20px; padding: 5px 12px; font-size: 12px; font-weight: bold; z-index: 10; }"
+            + ".schedule-card:nth-child(even) .schedule-rank { background: #3498db; color: #ffffff; }"
+            + ".schedule-title { font-size: 22px; font-weight: 700; margin-bottom: 15px; color: #2c3e50; line-height: 1.3; z-index: 5; position: relative; }"
+            + ".schedule-meta { display: flex; flex-wrap: wrap; gap: 15px; margin-bottom: 15px; z-index: 5; position: relative; }"
+            + ".meta-item { display: flex; align-items: center; font-size: 14px; color: #5a6c7d; font-weight: 500; }"
+            + ".meta-item strong { color: #34495e; font-weight: 700; }"
+            + ".meta-icon { width: 16px; height: 16px; margin-right: 6px; }"
+            + ".priority-badge { display: inline-block; padding: 8px 16px; border-radius: 25px; font-size: 14px; font-weight: bold; text-transform: uppercase; letter-spacing: 0.5px; z-index: 5; position: relative; }"
+            + ".priority-high { background: linear-gradient(135deg, #e74c3c 0%, #c0392b 100%); color: #ffffff; box-shadow: 0 4px 8px rgba(231, 76, 60, 0.3); text-shadow: 1px 1px 2px rgba(0,0,0,0.2); }"
+            + ".priority-medium { background: linear-gradient(135deg, #f39c12 0%, #e67e22 100%); color: #ffffff; box-shadow: 0 4px 8px rgba(243, 156, 18, 0.3); text-shadow: 1px 1px 2px rgba(0,0,0,0.2); }"
+            + ".cta-section { padding: 30px; text-align: center; background: #f8f9fa; }"
+            + ".cta-section p { color: #6c757d; font-weight: 500; }"
+            + ".cta-button { display: inline-block; padding: 15px 30px; background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: #ffffff; text-decoration: none; border-radius: 25px; font-weight: bold; font-size: 16px; box-shadow: 0 8px 16px rgba(102, 126, 234, 0.3); transition: transform 0.2s ease; text-shadow: 1px 1px 2px rgba(0,0,0,0.2); }"
+            + ".cta-button:hover { transform: translateY(-2px); }"
+            + ".footer { padding: 20px 30px; background: #2c3e50; color: #bdc3c7; text-align: center; font-size: 12px; }"
+            + ".footer a { color: #3498db; text-decoration: none; font-weight: 500; }"
+            + ".footer a:hover { color: #5dade2; }"
+            + "</style></head><body>"
+            + "<div class='email-container'>"
+            + "<div class='header'>"
+            + "<span class='emoji'>🔥</span>"
+            + "<h1>최우선 업무 알림</h1>"
+            + "</div>"
+            + "<div class='greeting'>"
+            + "안녕하세요, <strong>");
+    private static final byte[] TOP_GREETING_REST = utf8(
+            "</strong>님!<br>"
+            + "오늘 처리해야 할 <strong>가장 중요한 업무</strong>를 알려드립니다."
+            + "</div>");
+    private static final byte[] CARD_OPEN = utf8("<div class='schedule-card'><div class='schedule-rank'>");
+    private static final byte[] RANK_FIRST = utf8("1순위");
+    private static final byte[] RANK_OTHER = utf8("2순위");
+    private static final byte[] CARD_TITLE = utf8("</div><div class='schedule-title'>");
+    private static final byte[] CARD_META = utf8("</div><div class='schedule-meta'>");
+    private static final byte[] CARD_START = utf8("<div class='meta-item'>📅 시작: <strong>");
+    private static final byte[] CARD_END = utf8("<div class='meta-item'>⏰ 마감: <strong>");
+    private static final byte[] CARD_META_ITEM_CLOSE = utf8("</strong></div>");
+    // 0: 중요, 1: 매우 중요
+    private static final byte[][] CARD_BADGE = {
+            utf8("</div><div class='priority-badge priority-medium'>우선순위: 중요 ("),
+            utf8("</div><div class='priority-badge priority-high'>우선순위: 매우 중요 (")
+    };
+    private static final byte[] CARD_CLOSE = utf8(")</div></div>");
+    private static final byte[] TOP_FOOTER = utf8(
+            "<div class='cta-section'>"
+            + "<p style='margin-bottom: 20px; font-size: 16px; color: #6c757d; font-weight: 500;'>지금 바로 시작해서 생산적인 하루를 만들어보세요!</p>"
+            + "<a href='https://priorify-one.vercel.app/schedule' class='cta-button'>Priorify에서 확인하기</a>"
+            + "</div>"
+            + "<div class='footer'>"
+            + "<p>&copy; 2024 Priorify - 스마트한 우선순위 관리<br>"
+            + "</div>"
+            + "</div></body></html>");
+
+    // ===== 공통 =====
+    private static final byte[] NO_TITLE = utf8("제목 없음");
+    private static final byte[] STRONG_CLOSE = utf8("</strong>");
+    private static final byte[] MONTH_SUFFIX = utf8("월 ");
+    private static final byte[] DAY_SUFFIX = utf8("일 (");
+    private static final byte[] WEEKDAY_SUFFIX = utf8(") ");
+    private static final byte[][] WEEKDAY_NAMES = weekdayNames(Locale.getDefault(Locale.Category.FORMAT));
+
+    private static final int ESTIMATED_ITEM_BYTES = 512;
+
+    // digest 메일의 섹션 (제목 + 스케줄 목록)
+    public static final class Section {
+        private final String heading;
+        private final List<ScheduleListDto> schedules;
+
+        public Section(String heading, List<ScheduleListDto> schedules) {
+            this.heading = heading;
+            this.schedules = schedules;
+        }
+    }
+
+    public byte[] renderScheduleNotice(List<ScheduleListDto> schedules, int daysRemaining) {
+        ByteSink out = new ByteSink(SCHEDULE_HEAD.length + SCHEDULE_FOOTER.length + 128
+                + schedules.size() * ESTIMATED_ITEM_BYTES);
+        out.write(SCHEDULE_HEAD);
+
+        if (daysRemaining == 0) {
+            out.write(GREETING_TODAY);
+        } else if (daysRemaining == 1) {
+            out.write(GREETING_TOMORROW);
+        } else {
+            out.write(GREETING_DAYS_PREFIX);
+            out.writeLong(daysRemaining);
+            out.write(GREETING_DAYS_SUFFIX);
+        }
+
+        writeScheduleList(out, schedules);
+        out.write(SCHEDULE_FOOTER);
+        return out.toByteArray();
+    }
+
+    /**
+     * 여러 알림을 섹션별로 묶은 메일 한 통 렌더링
+     */
+    public byte[] renderDigest(List<Section> sections) {
+        int scheduleCount = 0;
+        for (Section section : sections) {
+            scheduleCount += section.schedules.size();
+        }
+        ByteSink out = new ByteSink(DIGEST_HEAD.length + SCHEDULE_FOOTER.length + sections.size() * 128
+                + scheduleCount * ESTIMATED_ITEM_BYTES);
+        out.write(DIGEST_HEAD);
+        for (Section section : sections) {
+            out.write(SECTION_OPEN);
+            out.writeString(section.heading);
+            out.write(SECTION_CLOSE);
+            writeScheduleList(out, section.schedules);
+        }
+        out.write(SCHEDULE_FOOTER);
+        return out.toByteArray();
+    }
+
+    private static void writeScheduleList(ByteSink out, List<ScheduleListDto> schedules) {
+        if (schedules.isEmpty()) {
+            out.write(NO_SCHEDULES);
+        } else {
+            out.write(LIST_OPEN);
+            for (ScheduleListDto schedule : schedules) {
+                Double priority = schedule.getPriority();
+                int level = priority == null ? 0 : priority >= 5.0 ? 2 : priority >= 3.0 ? 1 : 0;
+
+                out.write(ITEM_OPEN[level]);
+                writeTitle(out, schedule.getTitle());
+                out.write(ITEM_META);
+                if (schedule.getStartDate() != null) {
+                    out.write(ITEM_START);
+                    writeDateTime(out, schedule.getStartDate());
+                    out.write(STRONG_CLOSE);
+                }
+                if (schedule.getEndDate() != null) {
+                    out.write(ITEM_END);
+                    writeDateTime(out, schedule.getEndDate());
+                    out.write(ITEM_END_CLOSE);
+                }
+                out.write(ITEM_STATUS);
+                out.writeString(String.valueOf(schedule.getStatus()));
+                out.write(ITEM_PRIORITY[level]);
+                out.writeFixed2(priority != null ? priority : 0.0);
+                out.write(ITEM_CLOSE);
+            }
+            out.write(LIST_CLOSE);
+        }
+    }
+
+    public byte[] renderTopPriorityNotice(String userName, List<ScheduleListDto> topSchedules) {
+        ByteSink out = new ByteSink(TOP_HEAD.length + TOP_FOOTER.length + 256
+                + topSchedules.size() * ESTIMATED_ITEM_BYTES);
+        out.write(TOP_HEAD);
+        out.writeString(String.valueOf(userName));
+        out.write(TOP_GREETING_REST);
+
+        for (int i = 0; i < topSchedules.size(); i++) {
+            ScheduleListDto schedule = topSchedules.get(i);
+            Double priority = schedule.getPriority();
+
+            out.write(CARD_OPEN);
+            out.write(i == 0 ? RANK_FIRST : RANK_OTHER);
+            out.write(CARD_TITLE);
+            writeTitle(out, schedule.getTitle());
+            out.write(CARD_META);
+            if (schedule.getStartDate() != null) {
+                out.write(CARD_START);
+                writeDateTime(out, schedule.getStartDate());
+                out.write(CARD_META_ITEM_CLOSE);
+            }
+            if (schedule.getEndDate() != null) {
+                out.write(CARD_END);
+                writeDateTime(out, schedule.getEndDate());
+                out.write(CARD_META_ITEM_CLOSE);
+            }
+            out.write(CARD_BADGE[priority != null && priority >= 7.0 ? 1 : 0]);
+            out.writeFixed2(priority != null ? priority : 0.0);
+            out.write(CARD_CLOSE);
+        }
+
+        out.write(TOP_FOOTER);
+        return out.toByteArray();
+    }
+
+    private static void writeTitle(ByteSink out, String title) {
+        if (title != null) {
+            out.writeString(title);
+        } else {
+            out.write(NO_TITLE);
+        }
+    }
+
+    // "M월 d일 (E) HH:mm"
+    private static void writeDateTime(ByteSink out, LocalDateTime dateTime) {
+        out.writeLong(dateTime.getMonthValue());
+        out.write(MONTH_SUFFIX);
+        out.writeLong(dateTime.getDayOfMonth());
+        out.write(DAY_SUFFIX);
+        out.write(WEEKDAY_NAMES[dateTime.getDayOfWeek().getValue() - 1]);
+        out.write(WEEKDAY_SUFFIX);
+        out.writeTwoDigits(dateTime.getHour());
+        out.writeByte(':');
+        out.writeTwoDigits(dateTime.getMinute());
+    }
+
+    // DateTimeFormatter 패턴 "E" 와 같은 요일 약칭
+    private static byte[][] weekdayNames(Locale locale) {
+        byte[][] names = new byte[7][];
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            names[dayOfWeek.getValue() - 1] = utf8(dayOfWeek.getDisplayName(TextStyle.SHORT, locale));
+        }
+        return names;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 크기가 늘어나는 바이트 버퍼 (문자열은 중간 byte[] 없이 바로 UTF-8 로 인코딩)
+     */
+    private static final class ByteSink {
+        private byte[] buffer;
+        private int size;
+
+        ByteSink(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void write(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) b;
+        }
+
+        void writeString(String value) {
+            int length = value.length();
+            ensureCapacity(length * 3);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[size++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[size++] = (byte) (0xC0 | (c >> 6));
+                    buffer[size++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // 서로게이트 쌍 -> 4바이트
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    buffer[size++] = '?'; // 짝이 맞지 않는 서로게이트 (String.getBytes 와 동일하게 대체)
+                } else {
+                    buffer[size++] = (byte) (0xE0 | (c >> 12));
+                    buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[size++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        void writeLong(long value) {
+            if (value < 0) {
+                writeByte('-');
+                value = -value;
+            }
+            ensureCapacity(19);
+            int start = size;
+            do {
+                buffer[size++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            // 역순으로 쓴 자릿수 뒤집기
+            for (int i = start, j = size - 1; i < j; i++, j--) {
+                byte tmp = buffer[i];
+                buffer[i] = buffer[j];
+                buffer[j] = tmp;
+            }
+        }
+
+        void writeTwoDigits(int value) {
+            ensureCapacity(2);
+            buffer[size++] = (byte) ('0' + value / 10);
+            buffer[size++] = (byte) ('0' + value % 10);
+        }
+
+        // 소수점 둘째 자리까지 반올림 ("%.2f" 와 같이 Double.toString 자릿수 기준 HALF_UP, 소수점 기호는 항상 '.')
+        void writeFixed2(double value) {
+            if (Double.compare(value, 0.0) < 0) {
+                writeByte('-'); // "%.2f" 와 같이 -0.0, -0.001 도 부호 유지
+            }
+            double abs = Math.abs(value);
+            if (Double.isNaN(abs) || Double.isInfinite(abs)) {
+                writeString(Double.isNaN(abs) ? "NaN" : "Infinity");
+                return;
+            }
+            writeString(BigDecimal.valueOf(abs).setScale(2, RoundingMode.HALF_UP).toPlainString());
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingCacheEntry;
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingVector;
+import com.dku.opensource.priorify.priorify_backend.util.EmbeddingVectorCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 제목 임베딩 캐시
+ * - 키: sha256(모델 버전 + 정규화된 제목), 같은 제목은 사용자와 관계없이 공유
+ * - 1단계: JVM 내 LRU (임베딩 크기 기준 바이트 예산을 넘으면 오래 안 쓴 항목부터 제거)
+ * - 2단계: Mongo embedding_cache 컬렉션 (재시작/다른 인스턴스와 공유)
+ */
+@Slf4j
+public class EmbeddingCache {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final long ENTRY_OVERHEAD_BYTES = 200; // 키 문자열, 맵 노드, 객체 헤더 대략치
+
+    /** 캐시된 임베딩 결과 */
+    public static final class Entry {
+        private final EmbeddingVector embedding;
+        private final List<String> categories;
+        private final long bytes;
+
+        private Entry(EmbeddingVector embedding, List<String> categories) {
+            this.embedding = embedding;
+            this.categories = categories;
+            long categoryBytes = 0;
+            if (categories != null) {
+                for (String category : categories) {
+                    categoryBytes += 40 + 2L * category.length();
+                }
+            }
+            this.bytes = ENTRY_OVERHEAD_BYTES + 4L * embedding.size() + categoryBytes;
+        }
+
+        public EmbeddingVector getEmbedding() {
+            return embedding;
+        }
+
+        public List<String> getCategories() {
+            return categories;
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final String modelVersion;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> memory = new LinkedHashMap<>(256, 0.75f, true); // 접근 순서
+    private long usedBytes;
+
+    public EmbeddingCache(MongoTemplate mongoTemplate, String modelVersion, long maxBytes) {
+        this.mongoTemplate = mongoTemplate;
+        this.modelVersion = modelVersion;
+        this.maxBytes = maxBytes;
+    }
+
+    // 캐시 키 계산용 정규화: 공백 정리 + 유니코드 NFC + 소문자 (모델 입력에는 원래 제목을 사용)
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return normalized.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public String key(String normalizedText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelVersion.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            byte[] hash = digest.digest(normalizedText.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[hash.length * 2];
+            for (int i = 0; i < hash.length; i++) {
+                hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 키 목록 조회 (메모리 -> Mongo 순, Mongo 에서 찾은 항목은 메모리에 올림)
+     * @return 찾은 항목만 담은 맵
+     */
+    public Map<String, Entry> getAll(Collection<String> keys) {
+        Map<String, Entry> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        synchronized (memory) {
+            for (String key : keys) {
+                Entry entry = memory.get(key);
+                if (entry != null) {
+                    found.put(key, entry);
+                } else {
+                    misses.add(key);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        try {
+            Query query = new Query(Criteria.where("_id").in(misses));
+            query.fields().include("embedding").include("categories");
+            for (EmbeddingCacheEntry stored : mongoTemplate.find(query, EmbeddingCacheEntry.class)) {
+                if (stored.getEmbedding() == null || stored.getEmbedding().isEmpty()) {
+                    continue;
+                }
+                Entry entry = new Entry(stored.getEmbedding(), stored.getCategories());
+                found.put(stored.getId(), entry);
+                putInMemory(stored.getId(), entry);
+            }
+        } catch (Exception e) {
+            // 캐시 조회 실패는 임베딩 서버 요청으로 대체
+            log.warn("임베딩 캐시 조회 실패: {}", e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * 새 임베딩 저장 (key -> 정규화된 제목, 결과)
+     */
+    public Map<String, Entry> putAll(Map<String, String> normalizedTexts, Map<String, EmbeddingVector> embeddings,
+                                     Map<String, List<String>> categories) {
+        Map<String, Entry> stored = new HashMap<>();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmbeddingCacheEntry.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<String, EmbeddingVector> embedding : embeddings.entrySet()) {
+            String key = embedding.getKey();
+            Entry entry = new Entry(embedding.getValue(), categories.get(key));
+            stored.put(key, entry);
+            putInMemory(key, entry);
+
+            // 같은 제목을 동시에 저장해도 결과가 같으므로 먼저 들어간 값을 유지
+            bulkOps.upsert(new Query(Criteria.where("_id").is(key)), new Update()
+                    .setOnInsert("modelVersion", modelVersion)
+                    .setOnInsert("text", normalizedTexts.get(key))
+                    .setOnInsert("embedding", EmbeddingVectorCodec.encode(embedding.getValue().getValues()))
+                    .setOnInsert("categories", entry.getCategories())
+                    .setOnInsert("createdAt", now));
+        }
+        if (!stored.isEmpty()) {
+            try {
+                bulkOps.execute();
+            } catch (Exception e) {
+                log.warn("임베딩 캐시 저장 실패: {}", e.getMessage());
+            }
+        }
+        return stored;
+    }
+
+    private void putInMemory(String key, Entry entry) {
+        if (entry.bytes > maxBytes) {
+            return;
+        }
+        synchronized (memory) {
+            Entry previous = memory.put(key, entry);
+            if (previous != null) {
+                usedBytes -= previous.bytes;
+            }
+            usedBytes += entry.bytes;
+
+            // 바이트 예산을 넘으면 가장 오래 사용하지 않은 항목부터 제거
+            Iterator<Entry> eldest = memory.values().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                usedBytes -= eldest.next().bytes;
+                eldest.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingRequest;
+import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingResponse;
+import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingResult;
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingVector;
+import com.dku.opensource.priorify.priorify_backend.util.CircuitBreaker;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * FastAPI /embed 클라이언트
+ * - 입력을 배치로 나누어 최대 maxConcurrency 개까지 동시에 요청
+ * - 배치 크기는 AIMD 로 조정: 목표 지연 이내로 성공하면 +1, 지연 초과나 오류면 절반
+ *   (조정된 크기는 다음 호출에도 이어서 사용)
+ * - 결과는 입력 순서대로 반환, 실패한 배치의 자리는 null
+ * - 정규화된 제목 기준 캐시에 있는 항목은 요청하지 않고, 캐시에 없는 제목만 (중복 제거 후) 요청
+ *   (정규화는 캐시 키에만 사용, 모델에는 같은 키로 처음 나온 원래 제목을 보냄)
+ * - 서킷 브레이커가 열려 있으면 요청하지 않고 바로 null 로 채움 (장애 중에도 동기화 지연이 늘지 않음)
+ */
+@Slf4j
+public class EmbeddingClient {
+
+    private static final long TRIAL_WAIT_MILLIS = 1000;
+
+    private final RestTemplate restTemplate;
+    private final EmbeddingCache embeddingCache;
+    private final CircuitBreaker circuitBreaker;
+    private final String embeddingUrl;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long targetLatencyMillis;
+    private final AtomicInteger batchSize;
+
+    public EmbeddingClient(RestTemplate restTemplate, EmbeddingCache embeddingCache, CircuitBreaker circuitBreaker,
+                           String embeddingUrl, int maxConcurrency,
+                           int minBatchSize, int maxBatchSize, int initialBatchSize, long targetLatencyMillis) {
+        this.restTemplate = restTemplate;
+        this.embeddingCache = embeddingCache;
+        this.circuitBreaker = circuitBreaker;
+        this.embeddingUrl = embeddingUrl;
+        this.inFlight = new Semaphore(maxConcurrency);
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.batchSize = new AtomicInteger(Math.max(minBatchSize, Math.min(maxBatchSize, initialBatchSize)));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "embedding-client-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 임베딩 서버 호출 가능 여부 (서킷이 열려 있으면 false)
+    public boolean isAvailable() {
+        return !circuitBreaker.isOpen();
+    }
+
+    /**
+     * 텍스트 목록 임베딩
+     * @return 입력과 같은 길이의 목록 (임베딩에 실패한 항목은 null)
+     */
+    public List<EmbeddingResult> embed(List<String> texts) throws InterruptedException {
+        // 1. 정규화된 제목의 캐시 키 계산 후 캐시 조회
+        List<String> keys = new ArrayList<>(texts.size());
+        Map<String, String> normalizedTexts = new LinkedHashMap<>(); // key -> 정규화된 제목 (중복 제거, 캐시 저장용)
+        Map<String, String> originalTexts = new HashMap<>(); // key -> 처음 나온 원래 제목 (모델 입력)
+        for (String text : texts) {
+            String normalized = EmbeddingCache.normalize(text);
+            String key = embeddingCache.key(normalized);
+            keys.add(key);
+            normalizedTexts.putIfAbsent(key, normalized);
+            originalTexts.putIfAbsent(key, text != null ? text : "");
+        }
+        Map<String, EmbeddingCache.Entry> entries = new HashMap<>(embeddingCache.getAll(normalizedTexts.keySet()));
+
+        // 2. 캐시에 없는 제목만 임베딩 서버에 요청하고 캐시에 저장
+        List<String> missKeys = new ArrayList<>();
+        for (String key : normalizedTexts.keySet()) {
+            if (!entries.containsKey(key)) {
+                missKeys.add(key);
+            }
+        }
+        if (!missKeys.isEmpty()) {
+            List<String> missTexts = missKeys.stream().map(originalTexts::get).collect(Collectors.toList());
+            List<EmbeddingResult> fetched = requestAll(missTexts);
+
+            Map<String, EmbeddingVector> embeddings = new HashMap<>();
+            Map<String, List<String>> categories = new HashMap<>();
+            for (int i = 0; i < missKeys.size(); i++) {
+                EmbeddingResult result = fetched.get(i);
+                if (result != null && result.getEmbedding() != null && !result.getEmbedding().isEmpty()) {
+                    embeddings.put(missKeys.get(i), EmbeddingVector.of(result.getEmbedding()));
+                    categories.put(missKeys.get(i), result.getCategories());
+                }
+            }
+            entries.putAll(embeddingCache.putAll(normalizedTexts, embeddings, categories));
+            log.debug("임베딩 캐시 - 요청 {}개, 캐시 적중 {}개, 신규 임베딩 {}개",
+                    texts.size(), normalizedTexts.size() - missKeys.size(), embeddings.size());
+        }
+
+        // 3. 입력 순서대로 결과 구성 (임베딩 실패 항목은 null)
+        List<EmbeddingResult> results = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            EmbeddingCache.Entry entry = entries.get(keys.get(i));
+            results.add(entry == null ? null : EmbeddingResult.builder()
+                    .originalText(texts.get(i))
+                    .embedding(entry.getEmbedding().toList())
+                    .categories(entry.getCategories())
+                    .build());
+        }
+        return results;
+    }
+
+    // 배치로 나누어 동시에 요청 (입력 순서 유지, 실패한 배치의 자리는 null)
+    private List<EmbeddingResult> requestAll(List<String> texts) throws InterruptedException {
+        EmbeddingResult[] results = new EmbeddingResult[texts.size()];
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+        int offset = 0;
+        while (offset < texts.size()) {
+            inFlight.acquire(); // 동시 요청 수 제한 (응답이 오면 반환)
+            if (!circuitBreaker.tryAcquire()) {
+                inFlight.release();
+                if (circuitBreaker.isOpen()) {
+                    // 서킷이 열림: 남은 배치는 요청하지 않음
+                    log.warn("임베딩 서버 서킷 열림 - {}개 임베딩 생략", texts.size() - offset);
+                    break;
+                }
+                // HALF_OPEN 시험 요청이 진행 중: 결과가 나오면 (성공 -> 계속, 실패 -> 중단) 다시 확인
+                circuitBreaker.awaitTrial(TRIAL_WAIT_MILLIS);
+                continue;
+            }
+            int from = offset;
+            int to = Math.min(from + batchSize.get(), texts.size());
+            offset = to;
+
+            List<String> batch = texts.subList(from, to);
+            try {
+                batches.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        List<EmbeddingResult> batchResults = requestBatch(batch);
+                        for (int i = 0; i < batch.size() && i < batchResults.size(); i++) {
+                            results[from + i] = batchResults.get(i);
+                        }
+                    } catch (Exception e) {
+                        log.error("임베딩 배치 처리 실패 ({}/{}): {}", from, to - 1, e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                }, executor));
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+        return Arrays.asList(results);
+    }
+
+    // 배치 하나 요청 후 지연/오류에 따라 배치 크기 조정
+    private List<EmbeddingResult> requestBatch(List<String> texts) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<EmbeddingRequest> requestEntity = new HttpEntity<>(EmbeddingRequest.builder().texts(texts).build(), headers);
+
+        long startedAt = System.nanoTime();
+        EmbeddingResponse response;
+        try {
+            response = restTemplate.postForObject(embeddingUrl, requestEntity, EmbeddingResponse.class);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            decreaseBatchSize();
+            throw e;
+        }
+        long latencyMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        if (response == null || response.getResults() == null) {
+            circuitBreaker.onFailure();
+            decreaseBatchSize();
+            throw new IllegalStateException("임베딩 응답이 비어있습니다");
+        }
+        circuitBreaker.onSuccess();
+        if (latencyMillis > targetLatencyMillis) {
+            decreaseBatchSize();
+        } else if (texts.size() >= batchSize.get()) {
+            // 현재 크기를 다 채운 배치가 목표 지연 안에 끝났을 때만 증가
+            batchSize.updateAndGet(size -> Math.min(maxBatchSize, size + 1));
+        }
+        log.debug("임베딩 배치 {}개 - {}ms, 다음 배치 크기 {}", texts.size(), latencyMillis, batchSize.get());
+        return response.getResults();
+    }
+
+    private void decreaseBatchSize() {
+        batchSize.updateAndGet(size -> Math.max(minBatchSize, size / 2));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,104 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.util.EmbeddingVectorCodec;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 숫자 배열(List<Double>)로 저장된 기존 schedules.embedding 을 float32 Binary 로 변환
+ * _id 순서로 배치 처리하며, 이미 변환된 문서는 건너뛰므로 여러 번 실행해도 안전하다.
+ * 끝까지 완료하면 MigrationLog 에 기록하고 이후 시작 시에는 스캔하지 않는다.
+ */
+@Component
+@Slf4j
+public class EmbeddingMigrationJob {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String MIGRATION_NAME = "schedules-embedding-float32-binary";
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationLog migrationLog;
+    private final boolean enabled;
+
+    public EmbeddingMigrationJob(MongoTemplate mongoTemplate, MigrationLog migrationLog,
+                                 @Value("${priorify.embedding.migration.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.migrationLog = migrationLog;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (migrationLog.isDone(MIGRATION_NAME)) {
+                return;
+            }
+            int migrated = migrate();
+            migrationLog.markDone(MIGRATION_NAME, migrated);
+        } catch (Exception e) {
+            log.error("임베딩 Binary 마이그레이션 실패: {}", e.getMessage());
+        }
+    }
+
+    public int migrate() {
+        int migrated = 0;
+        ObjectId lastId = null;
+
+        while (true) {
+            Document filter = new Document("embedding", new Document("$type", "array"));
+            if (lastId != null) {
+                filter.append("_id", new Document("$gt", lastId));
+            }
+
+            List<Document> batch = new ArrayList<>();
+            mongoTemplate.getCollection("schedules")
+                    .find(filter)
+                    .projection(new Document("embedding", 1))
+                    .sort(new Document("_id", 1))
+                    .limit(BATCH_SIZE)
+                    .into(batch);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<WriteModel<Document>> writes = new ArrayList<>(batch.size());
+            for (Document doc : batch) {
+                float[] values = EmbeddingVectorCodec.decode(doc.get("embedding"));
+                // 변환 도중 다른 쓰기로 바뀐 문서는 건드리지 않음
+                Document target = new Document("_id", doc.get("_id"))
+                        .append("embedding", new Document("$type", "array"));
+                Document update = values != null && values.length > 0
+                        ? new Document("$set", new Document("embedding", EmbeddingVectorCodec.encode(values)))
+                        : new Document("$unset", new Document("embedding", ""));
+                writes.add(new UpdateOneModel<>(target, update));
+            }
+            migrated += mongoTemplate.getCollection("schedules")
+                    .bulkWrite(writes, new BulkWriteOptions().ordered(false))
+                    .getModifiedCount();
+
+            lastId = batch.get(batch.size() - 1).getObjectId("_id");
+        }
+
+        if (migrated > 0) {
+            log.info("임베딩 Binary 마이그레이션 완료: {}개 문서", migrated);
+        }
+        return migrated;
+    }
+}
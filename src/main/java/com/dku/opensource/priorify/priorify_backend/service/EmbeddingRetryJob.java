@@ -0,0 +1,178 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingResult;
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingVector;
+import com.dku.opensource.priorify.priorify_backend.model.Schedule;
+import com.dku.opensource.priorify.priorify_backend.model.User;
+import com.dku.opensource.priorify.priorify_backend.util.EmbeddingVectorCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 임베딩 없이 저장된 스케줄(embeddingPending) 재임베딩
+ * 임베딩 서버 서킷이 닫혀 있을 때만 배치 단위로 처리한다.
+ * 실패한 항목은 retry-backoff-ms 부터 2배씩 늘어나는 간격으로 다시 시도하고,
+ * retry-max-attempts 번 실패하면 재임베딩 대상에서 제외한다. (서버 장애로 서킷이 열려 실패한 경우는 횟수에 넣지 않음)
+ */
+@Component
+@Slf4j
+public class EmbeddingRetryJob {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES = 10; // 주기당 최대 처리 배치 수
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final MongoTemplate mongoTemplate;
+    private final EmbeddingClient embeddingClient;
+    private final PriorityMaterializer priorityMaterializer;
+    private final SimilarityEngine similarityEngine;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public EmbeddingRetryJob(MongoTemplate mongoTemplate, EmbeddingClient embeddingClient,
+                             PriorityMaterializer priorityMaterializer, SimilarityEngine similarityEngine,
+                             @Value("${priorify.embedding.retry-max-attempts:5}") int maxAttempts,
+                             @Value("${priorify.embedding.retry-backoff-ms:60000}") long retryBackoffMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.embeddingClient = embeddingClient;
+        this.priorityMaterializer = priorityMaterializer;
+        this.similarityEngine = similarityEngine;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${priorify.embedding.retry-interval-ms:60000}")
+    public void retryPendingEmbeddings() {
+        try {
+            String lastId = null;
+            for (int batch = 0; batch < MAX_BATCHES && embeddingClient.isAvailable(); batch++) {
+                List<Schedule> schedules = findPending(lastId);
+                if (schedules.isEmpty()) {
+                    return;
+                }
+                retryBatch(schedules);
+                if (schedules.size() < BATCH_SIZE) {
+                    return;
+                }
+                lastId = schedules.get(schedules.size() - 1).getId();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("재임베딩 작업 실패: {}", e.getMessage());
+        }
+    }
+
+    // 재시도 시각이 된 재임베딩 대기 스케줄 한 배치 (_id 순서, 이번 주기에 실패한 항목을 다시 읽지 않도록 lastId 이후부터)
+    private List<Schedule> findPending(String lastId) {
+        Criteria criteria = Criteria.where("embeddingPending").is(true)
+                .orOperator(Criteria.where("embeddingRetryAt").exists(false),
+                        Criteria.where("embeddingRetryAt").lte(LocalDateTime.now()));
+        if (lastId != null) {
+            criteria = criteria.and("_id").gt(new ObjectId(lastId));
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by("_id"))
+                .limit(BATCH_SIZE);
+        query.fields().include("userId").include("title").include("endAt").include("categories")
+                .include("embeddingRetryCount");
+        return mongoTemplate.find(query, Schedule.class);
+    }
+
+    private void retryBatch(List<Schedule> schedules) throws InterruptedException {
+
+        List<String> titles = schedules.stream()
+                .map(schedule -> schedule.getTitle() != null ? schedule.getTitle() : "")
+                .collect(Collectors.toList());
+        List<EmbeddingResult> results = embeddingClient.embed(titles);
+        boolean countFailures = embeddingClient.isAvailable(); // 서킷이 열렸으면 항목 문제가 아니므로 횟수에 넣지 않음
+        int gaveUp = 0;
+
+        Map<ObjectId, User> users = new HashMap<>(); // 카테고리가 바뀌므로 중요도 재계산용
+        Set<ObjectId> touchedUsers = new HashSet<>();
+        int succeeded = 0;
+        boolean hasUpdates = false;
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Schedule.class);
+        for (int i = 0; i < schedules.size(); i++) {
+            EmbeddingResult result = results.get(i);
+            Schedule schedule = schedules.get(i);
+            // 그 사이 제목이 바뀌었으면 건드리지 않음 (다음 주기에 새 제목으로 처리)
+            Query target = new Query(Criteria.where("_id").is(schedule.getId())
+                    .and("embeddingPending").is(true)
+                    .and("title").is(schedule.getTitle()));
+
+            if (result == null || result.getEmbedding() == null || result.getEmbedding().isEmpty()) {
+                if (countFailures) {
+                    // 실패 횟수 증가 후 다음 시도 시각 설정, 최대 횟수에 도달하면 재임베딩 대상에서 제외
+                    int attempts = (schedule.getEmbeddingRetryCount() != null ? schedule.getEmbeddingRetryCount() : 0) + 1;
+                    Update failure = new Update().set("embeddingRetryCount", attempts);
+                    if (attempts >= maxAttempts) {
+                        failure.unset("embeddingPending").unset("embeddingRetryAt");
+                        gaveUp++;
+                    } else {
+                        failure.set("embeddingRetryAt", nextRetryAt(attempts));
+                    }
+                    bulkOps.updateOne(target, failure);
+                    hasUpdates = true;
+                }
+                continue;
+            }
+
+            Update update = new Update()
+                    .set("embedding", EmbeddingVectorCodec.encode(EmbeddingVector.of(result.getEmbedding()).getValues()))
+                    .unset("embeddingPending")
+                    .unset("embeddingRetryCount")
+                    .unset("embeddingRetryAt");
+
+            // 사용자가 직접 지정한 카테고리는 유지, 없을 때만 모델 카테고리 사용
+            List<String> categories = schedule.getCategories();
+            if (categories == null || categories.isEmpty()) {
+                categories = result.getCategories();
+                update.set("categories", categories);
+                User user = users.computeIfAbsent(schedule.getUserId(), id -> mongoTemplate.findById(id, User.class));
+                if (user != null) {
+                    priorityMaterializer.apply(update, categories, schedule.getEndAt(), user);
+                }
+            }
+            bulkOps.updateOne(target, update);
+            touchedUsers.add(schedule.getUserId());
+            succeeded++;
+            hasUpdates = true;
+        }
+
+        if (hasUpdates) {
+            bulkOps.execute();
+            touchedUsers.forEach(userId -> similarityEngine.invalidate(userId.toHexString()));
+            log.info("재임베딩 완료: {}/{}개", succeeded, schedules.size());
+        }
+        if (gaveUp > 0) {
+            log.warn("재임베딩 {}회 실패한 스케줄 {}개를 재임베딩 대상에서 제외", maxAttempts, gaveUp);
+        }
+    }
+
+    // retryBackoffMillis * 2^(attempts-1) 후
+    private LocalDateTime nextRetryAt(int attempts) {
+        long backoffMillis = retryBackoffMillis << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+        return LocalDateTime.now().plus(Duration.ofMillis(backoffMillis));
+    }
+}
@@ -1,27 +1,29 @@
 package com.dku.opensource.priorify.priorify_backend.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.dku.opensource.priorify.priorify_backend.dto.CalendarSyncResultDto;
-import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingRequest;
-import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingResponse;
 import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingResult;
 import com.dku.opensource.priorify.priorify_backend.dto.GoogleCalendarEventDto;
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingVector;
 import com.dku.opensource.priorify.priorify_backend.model.Schedule;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.dku.opensource.priorify.priorify_backend.model.User;
+import com.dku.opensource.priorify.priorify_backend.util.EmbeddingVectorCodec;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.client.json.gson.GsonFactory;
 
@@ -30,16 +32,24 @@ import io.reactivex.rxjava3.schedulers.Schedulers;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
 import org.bson.Document;
 import org.bson.types.ObjectId;
 
@@ -51,9 +61,12 @@ public class GoogleAPIService {
     private final MongoTemplate mongoTemplate;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-    //VPC 내부로 접속해보자잇 
-    private static final String FAST_API_EMBEDDING_URL = "http://172.31.43.132:8000/embed";
-    private static final int BATCH_SIZE = 4;
+    private final SimilarityEngine similarityEngine;
+    private final PriorityMaterializer priorityMaterializer;
+    private final EmbeddingClient embeddingClient;
+    private static final String GOOGLE_CALENDAR_EVENTS_URL = "https://www.googleapis.com/calendar/v3/calendars/primary/events";
+    private static final int CALENDAR_PAGE_SIZE = 250; // events.list maxResults (구글 기본값)
+    private static final String CANCELLED_STATUS = "cancelled";
     
     // 회원가입 후, 동기화 작업
     public CalendarSyncResultDto syncGoogleCalendar(String userId, String googleAccessToken)  {
@@ -63,60 +76,140 @@ public class GoogleAPIService {
                 .syncStartTime(syncStartTime);
             
         try {
-            // 1. 구글 캘린더 API 호출
-            List<GoogleCalendarEventDto> events = fetchGoogleCalendarEvents(googleAccessToken);
-                
-                // 2. 기존 스케줄과 비교하여 처리 대상 분류
-                SyncAnalysisResult analysisResult = analyzeEventsForSync(userId, events);
-                
-                // 3. 새로운 이벤트와 title이 변경된 이벤트만 임베딩 요청
-                List<GoogleCalendarEventDto> eventsNeedingEmbedding = new ArrayList<>();
-                eventsNeedingEmbedding.addAll(analysisResult.getNewEvents());
-                eventsNeedingEmbedding.addAll(analysisResult.getTitleChangedEvents());
-
-                List<GoogleCalendarEventDto> embeddedEvents = new ArrayList<>();
-                if (!eventsNeedingEmbedding.isEmpty()) {
-                    embeddedEvents = requestEmbeddings(eventsNeedingEmbedding);
-                }
-                
-                // 4. MongoDB에 저장/업데이트
-                SyncOperationResult operationResult = saveOrUpdateSchedules(userId, analysisResult, embeddedEvents);
-                
-                // 5. 결과 구성
-                int totalProcessed = analysisResult.getTotalEvents();
-                int successful = operationResult.getCreated() + operationResult.getUpdated();
-                
-                return resultBuilder
-                        .syncEndTime(LocalDateTime.now())
-                        .totalEventsProcessed(totalProcessed)
-                        .successfulEmbeddings(embeddedEvents.size())
-                        .failedEmbeddings(eventsNeedingEmbedding.size() - embeddedEvents.size())
-                        .status(successful == totalProcessed ? "SUCCESS" : "PARTIAL_SUCCESS")
-                        .message(String.format("동기화 완료: 신규 %d개, 업데이트 %d개, 스킵 %d개", 
-                                operationResult.getCreated(), operationResult.getUpdated(), operationResult.getSkipped()))
-                        .build();
-                        
-            } catch (Exception e) {
-                log.error("캘린더 동기화 실패", e);
-                return resultBuilder
-                        .syncEndTime(LocalDateTime.now())
-                        .status("FAILED")
-                        .message("캘린더 동기화 실패: " + e.getMessage())
-                        .build();
+            ObjectId userObjectId = new ObjectId(userId);
+            User user = mongoTemplate.findById(userObjectId, User.class); // 중요도 사전 계산용
+            String syncToken = user != null ? user.getGoogleSyncToken() : null;
+
+            // 1. 저장된 syncToken 이 있으면 변경분만, 없거나 만료(410)되었으면 전체 동기화
+            SyncTotals totals;
+            try {
+                totals = syncAllPages(userObjectId, user, googleAccessToken, syncToken);
+            } catch (HttpClientErrorException.Gone e) {
+                log.info("사용자 {}의 캘린더 syncToken 이 만료되어 전체 동기화를 진행합니다.", userId);
+                totals = syncAllPages(userObjectId, user, googleAccessToken, null);
             }
+            similarityEngine.invalidate(userId);
+
+            // 다음 동기화를 위한 토큰 저장 (마지막 페이지까지 처리한 경우에만 받음)
+            if (totals.nextSyncToken != null) {
+                mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(userObjectId)),
+                        new Update().set("googleSyncToken", totals.nextSyncToken), User.class);
+            }
+
+            // 5. 결과 구성
+            int successful = totals.created + totals.updated + totals.deleted;
+            log.info("동기화 완료 ({}) - 페이지: {}개, 생성: {}개, 업데이트: {}개, 삭제: {}개, 스킵: {}개",
+                    totals.incremental ? "증분" : "전체", totals.pages, totals.created, totals.updated, totals.deleted, totals.skipped);
+
+            return resultBuilder
+                    .syncEndTime(LocalDateTime.now())
+                    .totalEventsProcessed(totals.processed)
+                    .successfulEmbeddings(totals.embedded)
+                    .failedEmbeddings(totals.embeddingRequested - totals.embedded)
+                    .status(successful == totals.processed ? "SUCCESS" : "PARTIAL_SUCCESS")
+                    .message(String.format("동기화 완료: 신규 %d개, 업데이트 %d개, 삭제 %d개, 스킵 %d개",
+                            totals.created, totals.updated, totals.deleted, totals.skipped))
+                    .build();
+
+        } catch (Exception e) {
+            log.error("캘린더 동기화 실패", e);
+            return resultBuilder
+                    .syncEndTime(LocalDateTime.now())
+                    .status("FAILED")
+                    .message("캘린더 동기화 실패: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 구글 캘린더 API 를 페이지 단위로 호출하고, 페이지마다 바로 동기화 (메모리에는 한 페이지만 유지)
+     * syncToken 이 null 이면 전체 동기화
+     */
+    private SyncTotals syncAllPages(ObjectId userObjectId, User user, String googleAccessToken, String syncToken) {
+        SyncTotals totals = new SyncTotals();
+        totals.incremental = syncToken != null;
+
+        String pageToken = null;
+        do {
+            CalendarPage page = fetchGoogleCalendarPage(googleAccessToken, syncToken, pageToken);
+            syncPage(userObjectId, user, page.getEvents(), totals);
+            pageToken = page.getNextPageToken();
+            totals.nextSyncToken = page.getNextSyncToken();
+        } while (pageToken != null);
+        return totals;
+    }
+
+    // 한 페이지의 이벤트 동기화 (삭제 반영 -> 분석 -> 임베딩 -> 저장)
+    private void syncPage(ObjectId userObjectId, User user, List<GoogleCalendarEventDto> pageEvents, SyncTotals totals) {
+        totals.pages++;
+
+        // 증분 동기화에서 삭제된 이벤트는 status=cancelled 로 내려옴 -> 스케줄 비활성화
+        List<String> cancelledEventIds = new ArrayList<>();
+        List<GoogleCalendarEventDto> events = new ArrayList<>(pageEvents.size());
+        for (GoogleCalendarEventDto event : pageEvents) {
+            if (CANCELLED_STATUS.equals(event.getStatus())) {
+                cancelledEventIds.add(event.getGoogleEventId());
+            } else {
+                events.add(event);
+            }
+        }
+        if (!cancelledEventIds.isEmpty()) {
+            totals.deleted += deactivateCancelledSchedules(userObjectId, cancelledEventIds);
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // 2. 기존 스케줄과 비교하여 처리 대상 분류
+        SyncAnalysisResult analysisResult = analyzeEventsForSync(userObjectId, events);
+
+        // 3. 새로운 이벤트와 title이 변경된 이벤트만 임베딩 요청
+        List<GoogleCalendarEventDto> eventsNeedingEmbedding = new ArrayList<>();
+        eventsNeedingEmbedding.addAll(analysisResult.getNewEvents());
+        eventsNeedingEmbedding.addAll(analysisResult.getTitleChangedEvents());
+
+        List<GoogleCalendarEventDto> embeddedEvents = new ArrayList<>();
+        if (!eventsNeedingEmbedding.isEmpty()) {
+            embeddedEvents = requestEmbeddings(eventsNeedingEmbedding);
+        }
+
+        // 4. MongoDB에 저장/업데이트
+        SyncOperationResult operationResult = saveOrUpdateSchedules(userObjectId, user, analysisResult, embeddedEvents);
+
+        totals.processed += analysisResult.getTotalEvents();
+        totals.embeddingRequested += eventsNeedingEmbedding.size();
+        totals.embedded += embeddedEvents.size();
+        totals.created += operationResult.getCreated();
+        totals.updated += operationResult.getUpdated();
+        totals.skipped += operationResult.getSkipped();
     }
     
+    // 구글에서 삭제된 이벤트의 스케줄 비활성화 (스케줄 삭제와 동일하게 status=inactive)
+    private int deactivateCancelledSchedules(ObjectId userObjectId, List<String> googleEventIds) {
+        Query query = new Query(Criteria.where("userId").is(userObjectId)
+                .and("googleEventId").in(googleEventIds)
+                .and("status").ne("inactive"));
+        Update update = new Update()
+                .set("status", "inactive")
+                .set("updatedAt", LocalDateTime.now());
+        return (int) mongoTemplate.updateMulti(query, update, Schedule.class).getModifiedCount();
+    }
+
     // 기존 스케줄과 비교하여 동기화 전략 분석
-    private SyncAnalysisResult analyzeEventsForSync(String userId, List<GoogleCalendarEventDto> events) {
-        ObjectId userObjectId = new ObjectId(userId);
-        
-        // 기존 스케줄들을 googleEventId로 조회
-        Query query = new Query(Criteria.where("userId").is(userObjectId));
+    private SyncAnalysisResult analyzeEventsForSync(ObjectId userObjectId, List<GoogleCalendarEventDto> events) {
+        List<String> googleEventIds = events.stream()
+                .map(GoogleCalendarEventDto::getGoogleEventId)
+                .collect(Collectors.toList());
+
+        // 이번 페이지 이벤트에 해당하는 기존 스케줄만 (userId, googleEventId) unique 인덱스로 조회 (비교에 필요한 필드만, 임베딩 제외)
+        Query query = new Query(Criteria.where("userId").is(userObjectId).and("googleEventId").in(googleEventIds));
+        query.fields().include("googleEventId").include("title");
         List<Schedule> existingSchedules = mongoTemplate.find(query, Schedule.class);
         
+        // 인덱스 생성 전 남아 있을 수 있는 중복은 첫 번째 것을 사용
         Map<String, Schedule> existingScheduleMap = existingSchedules.stream()
                 .filter(schedule -> schedule.getGoogleEventId() != null)
-                .collect(Collectors.toMap(Schedule::getGoogleEventId, schedule -> schedule));
+                .collect(Collectors.toMap(Schedule::getGoogleEventId, schedule -> schedule, (first, duplicate) -> first));
         
         List<GoogleCalendarEventDto> newEvents = new ArrayList<>();
         List<GoogleCalendarEventDto> titleChangedEvents = new ArrayList<>();
@@ -132,8 +225,7 @@ public class GoogleAPIService {
                 // 임베딩 재생성 필요
                 titleChangedEvents.add(event);
             } else {
-                // title 은 같지만, 다른 필드가 변경되었을 수 있는 이벤트
-                event.setEmbedding(existingSchedule.getEmbedding());
+                // title 은 같지만, 다른 필드가 변경되었을 수 있는 이벤트 (기존 임베딩 유지)
                 unchangedEvents.add(event);
             }
         }
@@ -156,28 +248,29 @@ public class GoogleAPIService {
         return existingTitle.trim().equals(newTitle.trim());
     }
     
-    // 저장/업데이트 처리
-    private SyncOperationResult saveOrUpdateSchedules(String userId, SyncAnalysisResult analysisResult, 
+    /**
+     * 저장/업데이트 처리
+     * 한 페이지의 upsert / updateOne((userId, googleEventId) 기준) 을 unordered 벌크 한 번으로 전송하고,
+     * 실패한 항목은 BulkWriteError 의 index 로 찾아 스킵으로 집계
+     * 신규 이벤트는 unique 인덱스 위의 upsert 이므로 동시에 동기화해도 중복 스케줄이 생기지 않음
+     */
+    private SyncOperationResult saveOrUpdateSchedules(ObjectId userObjectId, User user, SyncAnalysisResult analysisResult,
                                                      List<GoogleCalendarEventDto> embeddedEvents) {
-        ObjectId userObjectId = new ObjectId(userId);
-        int created = 0, updated = 0, skipped = 0;
+        int skipped = 0;
         
         // 임베딩된 이벤트들을 Map으로 변환 (빠른 조회를 위해)
         Map<String, GoogleCalendarEventDto> embeddedEventMap = embeddedEvents.stream()
                 .collect(Collectors.toMap(GoogleCalendarEventDto::getGoogleEventId, event -> event));
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Schedule.class);
+        int operationCount = 0;
         
-        // 1. 새로운 이벤트 생성
+        // 1. 새로운 이벤트 생성 (다른 동기화가 먼저 넣었다면 그 스케줄을 갱신)
         for (GoogleCalendarEventDto event : analysisResult.getNewEvents()) {
             GoogleCalendarEventDto embeddedEvent = embeddedEventMap.get(event.getGoogleEventId());
             if (embeddedEvent != null) {
-                try {
-                    Schedule schedule = buildScheduleFromEvent(userObjectId, embeddedEvent);
-                    mongoTemplate.save(schedule);
-                    created++;
-                } catch (Exception e) {
-                    log.error("새 일정 저장 실패 (ID: {}): {}", event.getId(), e.getMessage());
-                    skipped++;
-                }
+                bulkOps.upsert(googleEventQuery(userObjectId, embeddedEvent), buildScheduleUpsert(embeddedEvent, user));
+                operationCount++;
             } else {
                 skipped++;
             }
@@ -187,13 +280,9 @@ public class GoogleAPIService {
         for (GoogleCalendarEventDto event : analysisResult.getTitleChangedEvents()) {
             GoogleCalendarEventDto embeddedEvent = embeddedEventMap.get(event.getGoogleEventId());
             if (embeddedEvent != null) {
-                try {
-                    updateExistingSchedule(userObjectId, embeddedEvent, analysisResult.getExistingScheduleMap());
-                    updated++;
-                } catch (Exception e) {
-                    log.error("일정 업데이트 실패 (ID: {}): {}", event.getId(), e.getMessage());
-                    skipped++;
-                }
+                bulkOps.updateOne(googleEventQuery(userObjectId, embeddedEvent),
+                        applyEmbedding(buildScheduleUpdate(embeddedEvent), embeddedEvent));
+                operationCount++;
             } else {
                 skipped++;
             }
@@ -201,16 +290,50 @@ public class GoogleAPIService {
         
         // 3. title은 동일하지만 다른 필드가 변경된 이벤트 업데이트
         for (GoogleCalendarEventDto event : analysisResult.getUnchangedEvents()) {
-            try {
-                updateExistingSchedule(userObjectId, event, analysisResult.getExistingScheduleMap());
-                updated++;
-            } catch (Exception e) {
-                log.error("일정 업데이트 실패 (ID: {}): {}", event.getId(), e.getMessage());
+            bulkOps.updateOne(googleEventQuery(userObjectId, event), buildScheduleUpdate(event));
+            operationCount++;
+        }
+
+        if (operationCount == 0) {
+            return SyncOperationResult.builder().skipped(skipped).build();
+        }
+
+        // 4. 벌크 실행 및 항목별 결과 집계
+        Set<Integer> failedIndexes = new HashSet<>();
+        BulkWriteResult writeResult;
+        try {
+            writeResult = bulkOps.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                failedIndexes.add(error.getIndex());
+                log.error("일정 벌크 저장 실패 (index: {}): {}", error.getIndex(), error.getMessage());
+            }
+            writeResult = e.getResult();
+        }
+
+        // upsert 로 새로 삽입된 항목만 생성, 나머지 성공 항목은 기존 스케줄 업데이트
+        Set<Integer> upsertedIndexes = new HashSet<>();
+        if (writeResult != null) {
+            writeResult.getUpserts().forEach(upsert -> upsertedIndexes.add(upsert.getIndex()));
+        }
+
+        int created = 0, updated = 0;
+        for (int i = 0; i < operationCount; i++) {
+            if (failedIndexes.contains(i)) {
                 skipped++;
+            } else if (upsertedIndexes.contains(i)) {
+                created++;
+            } else {
+                updated++;
             }
         }
+        // 조회 이후 삭제되어 매칭되지 않은 updateOne 은 스킵으로 보정
+        if (writeResult != null && writeResult.getMatchedCount() < updated) {
+            skipped += updated - writeResult.getMatchedCount();
+            updated = writeResult.getMatchedCount();
+        }
         
-        log.info("동기화 완료 - 생성: {}개, 업데이트: {}개, 스킵: {}개", created, updated, skipped);
+        log.debug("페이지 동기화 - 생성: {}개, 업데이트: {}개, 스킵: {}개", created, updated, skipped);
         
         return SyncOperationResult.builder()
                 .created(created)
@@ -219,185 +342,222 @@ public class GoogleAPIService {
                 .build();
     }
     
-    // Schedule 객체 생성
-    private Schedule buildScheduleFromEvent(ObjectId userObjectId, GoogleCalendarEventDto event) {
-        return Schedule.builder()
-                .userId(userObjectId)
-                .title(event.getTitle())
-                .googleEventId(event.getGoogleEventId())
-                .embedding(event.getEmbedding())
-                .categories(event.getCategories())
-                .startAt(event.getStartAt())
-                .endAt(event.getEndAt())
-                .status("active")
-                .build();
+    // 신규 이벤트 upsert 내용 (userId, googleEventId 는 조회 조건에서 삽입됨)
+    private Update buildScheduleUpsert(GoogleCalendarEventDto event, User user) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set("title", event.getTitle())
+                .set("categories", event.getCategories())
+                .set("startAt", event.getStartAt())
+                .set("endAt", event.getEndAt())
+                .set("updatedAt", now)
+                .setOnInsert("status", "active")
+                .setOnInsert("createdAt", now);
+        applyEmbedding(update, event);
+        if (user != null) {
+            priorityMaterializer.apply(update, event.getCategories(), event.getEndAt(), user);
+        } else {
+            priorityMaterializer.markUrgencyDue(update);
+        }
+        return update;
+    }
+
+    // 사용자의 구글 이벤트에 해당하는 스케줄 조회 조건
+    private Query googleEventQuery(ObjectId userObjectId, GoogleCalendarEventDto event) {
+        return new Query(Criteria.where("userId").is(userObjectId).and("googleEventId").is(event.getGoogleEventId()));
     }
     
-    // 기존 Schedule 업데이트
-    private void updateExistingSchedule(ObjectId userObjectId, GoogleCalendarEventDto event, 
-                                       Map<String, Schedule> existingScheduleMap) {
-        Schedule existingSchedule = existingScheduleMap.get(event.getGoogleEventId());
-        if (existingSchedule == null) {
-            throw new RuntimeException("기존 스케줄을 찾을 수 없습니다: " + event.getGoogleEventId());
-        }
-        
-        Query query = new Query(Criteria.where("_id").is(existingSchedule.getId()));
+    // 기존 Schedule 업데이트 내용
+    private Update buildScheduleUpdate(GoogleCalendarEventDto event) {
         Update update = new Update()
                 .set("title", event.getTitle())
                 .set("startAt", event.getStartAt())
                 .set("endAt", event.getEndAt())
                 .set("updatedAt", LocalDateTime.now());
-        
-        // 임베딩이 있는 경우에만 업데이트
+        priorityMaterializer.markUrgencyDue(update); // endAt 변경 가능 -> 긴급도 재계산
+        return update;
+    }
+
+    // 새 임베딩 반영, 임베딩에 실패했으면 재임베딩 대상으로 표시 (EmbeddingRetryJob 이 처리)
+    private Update applyEmbedding(Update update, GoogleCalendarEventDto event) {
         if (event.getEmbedding() != null && !event.getEmbedding().isEmpty()) {
-            update.set("embedding", event.getEmbedding());
+            update.set("embedding", EmbeddingVectorCodec.encode(event.getEmbedding().getValues()));
+            update.unset("embeddingPending");
+        } else {
+            update.set("embeddingPending", true);
         }
-        
-        mongoTemplate.updateFirst(query, update, Schedule.class);
+        update.unset("embeddingRetryCount").unset("embeddingRetryAt"); // 새 제목 기준으로 재시도 횟수 초기화
+        return update;
     }
     
-    // 구글 캘린더 이벤트 가져오기
-    private List<GoogleCalendarEventDto> fetchGoogleCalendarEvents(String googleAccessToken) throws JsonProcessingException {
-        // 최근 한달간의 캘린더만 가져오기 위한 파라미터 설정
-        String timeMin = LocalDateTime.now().minusMonths(1)
-                .atZone(ZoneId.of("UTC"))
-                .format(DateTimeFormatter.ISO_INSTANT);
-        
-        String timeMax = LocalDateTime.now().plusMonths(1)
-                .atZone(ZoneId.of("UTC"))
-                .format(DateTimeFormatter.ISO_INSTANT);
-        
-        String googleCalendarUrl = "https://www.googleapis.com/calendar/v3/calendars/primary/events" +
-                "?timeMin=" + timeMin + "&timeMax=" + timeMax +
-                "&orderBy=updated&singleEvents=true";  // 업데이트 순서로 정렬, 반복 이벤트 확장
-        
+    /**
+     * 구글 캘린더 이벤트 한 페이지 가져오기 (응답 스트림을 바로 파싱)
+     * syncToken 이 있으면 마지막 동기화 이후 변경분만 요청 (timeMin/timeMax/orderBy 와 함께 쓸 수 없음)
+     * 만료된 syncToken 이면 410 (HttpClientErrorException.Gone)
+     */
+    private CalendarPage fetchGoogleCalendarPage(String googleAccessToken, String syncToken, String pageToken) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(GOOGLE_CALENDAR_EVENTS_URL)
+                .queryParam("singleEvents", true)  // 반복 이벤트 확장
+                .queryParam("maxResults", CALENDAR_PAGE_SIZE);
+        if (syncToken != null) {
+            uriBuilder.queryParam("syncToken", syncToken);
+        } else {
+            // 최근 한달간의 캘린더만 가져오기 위한 파라미터 설정
+            String timeMin = LocalDateTime.now().minusMonths(1)
+                    .atZone(ZoneId.of("UTC"))
+                    .format(DateTimeFormatter.ISO_INSTANT);
+
+            String timeMax = LocalDateTime.now().plusMonths(1)
+                    .atZone(ZoneId.of("UTC"))
+                    .format(DateTimeFormatter.ISO_INSTANT);
+
+            uriBuilder.queryParam("timeMin", timeMin)
+                    .queryParam("timeMax", timeMax);
+        }
+        if (pageToken != null) {
+            uriBuilder.queryParam("pageToken", pageToken);
+        }
+        URI googleCalendarUri = uriBuilder.encode().build().toUri();
+
         // 구글 캘린더 API 호출
-        HttpHeaders calendarHeaders = new HttpHeaders();
-        calendarHeaders.set("Authorization", "Bearer " + googleAccessToken);
-        calendarHeaders.set("Content-Type", MediaType.APPLICATION_JSON_VALUE);
-        
-        ResponseEntity<String> calendarResponse = restTemplate.exchange(
-                googleCalendarUrl,
+        return restTemplate.execute(
+                googleCalendarUri,
                 HttpMethod.GET,
-                new HttpEntity<>(null, calendarHeaders),
-                String.class
+                request -> {
+                    request.getHeaders().set("Authorization", "Bearer " + googleAccessToken);
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                },
+                response -> parseCalendarPage(response.getBody())
         );
-        
-        return parseCalendarEvents(calendarResponse.getBody());
     }
     
-    // 구글 캘린더 이벤트 파싱
-    private List<GoogleCalendarEventDto> parseCalendarEvents(String calendarData) throws JsonProcessingException {
+    /**
+     * 구글 캘린더 이벤트 목록 응답 파싱 (JsonParser 스트리밍, 필요한 필드만 읽고 나머지는 건너뜀)
+     * { "nextPageToken" | "nextSyncToken": "...", "items": [ { "id", "status", "summary", "start": { "dateTime" }, "end": { "dateTime" } }, ... ] }
+     */
+    private CalendarPage parseCalendarPage(InputStream body) throws IOException {
         List<GoogleCalendarEventDto> eventList = new ArrayList<>();
-        JsonNode rootNode = objectMapper.readTree(calendarData);
-        JsonNode items = rootNode.path("items");
-        
-        if (items.isArray()) {
-            for (JsonNode item : items) {
-                String eventId = item.path("id").asText();
-                String summary = item.path("summary").asText("");
-                
-                // 시작/종료 시간 파싱
-                LocalDateTime startAt = parseDateTime(item.path("start"));
-                LocalDateTime endAt = parseDateTime(item.path("end"));
-                
-                GoogleCalendarEventDto event = GoogleCalendarEventDto.builder()
-                        .id(eventId)
-                        .googleEventId(eventId)
-                        .title(summary)
-                        .startAt(startAt)
-                        .endAt(endAt)
-                        .build();
-                
-                eventList.add(event);
+        String nextPageToken = null;
+        String nextSyncToken = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("구글 캘린더 응답 형식이 올바르지 않습니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("nextPageToken".equals(field)) {
+                    nextPageToken = parser.getValueAsString();
+                } else if ("nextSyncToken".equals(field)) {
+                    nextSyncToken = parser.getValueAsString();
+                } else if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        eventList.add(parseCalendarEvent(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
             }
         }
-        
-        return eventList;
+
+        return new CalendarPage(eventList, nextPageToken, nextSyncToken);
     }
-    
-    // 날짜시간 파싱 헬퍼 메서드
-    private LocalDateTime parseDateTime(JsonNode dateTimeNode) {
-        if (dateTimeNode.has("dateTime")) {
-            return LocalDateTime.parse(dateTimeNode.path("dateTime").asText(), 
-                                     DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+
+    // items 배열의 이벤트 객체 하나 파싱 (parser 는 START_OBJECT 위치)
+    private GoogleCalendarEventDto parseCalendarEvent(JsonParser parser) throws IOException {
+        String eventId = null;
+        String status = null;
+        String summary = "";
+        LocalDateTime startAt = null;
+        LocalDateTime endAt = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id":
+                    eventId = parser.getValueAsString();
+                    break;
+                case "status":
+                    status = parser.getValueAsString();
+                    break;
+                case "summary":
+                    summary = parser.getValueAsString("");
+                    break;
+                case "start":
+                    startAt = value == JsonToken.START_OBJECT ? parseDateTime(parser) : null;
+                    break;
+                case "end":
+                    endAt = value == JsonToken.START_OBJECT ? parseDateTime(parser) : null;
+                    break;
+                default:
+                    parser.skipChildren();
+            }
         }
-        return null;
+
+        return GoogleCalendarEventDto.builder()
+                .id(eventId)
+                .googleEventId(eventId)
+                .title(summary)
+                .startAt(startAt)
+                .endAt(endAt)
+                .status(status)
+                .build();
     }
     
-    // FastAPI로 임베딩 요청
-    private List<GoogleCalendarEventDto> requestEmbeddings(List<GoogleCalendarEventDto> events) {
-        List<GoogleCalendarEventDto> result = new ArrayList<>();
-        
-        // 4개씩 배치로 나누어서 처리
-        for (int i = 0; i < events.size(); i += BATCH_SIZE) {
-            int endIndex = Math.min(i + BATCH_SIZE, events.size());
-            List<GoogleCalendarEventDto> batch = events.subList(i, endIndex);
-            System.out.println("batch: " + batch);
-            try {
-                List<GoogleCalendarEventDto> embeddedBatch = processBatch(batch);
-                result.addAll(embeddedBatch);
-            } catch (Exception e) {
-                log.error("배치 처리 실패 ({}/{}): {}", i, endIndex-1, e.getMessage());
-                result.addAll(batch);
+    // 날짜시간 파싱 헬퍼 메서드 ({ "dateTime": ... } 객체, 종일 일정(date)은 null)
+    private LocalDateTime parseDateTime(JsonParser parser) throws IOException {
+        LocalDateTime dateTime = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("dateTime".equals(field)) {
+                dateTime = LocalDateTime.parse(parser.getText(), DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            } else {
+                parser.skipChildren();
             }
         }
-        
-        return result;
+        return dateTime;
     }
     
-    // 배치 처리
-    private List<GoogleCalendarEventDto> processBatch(List<GoogleCalendarEventDto> batch) throws Exception {
-        // 요청 본문 구성
-        List<String> texts = batch.stream()
+    // FastAPI로 임베딩 요청 (임베딩에 실패한 이벤트는 원본 그대로, 입력 순서 유지)
+    private List<GoogleCalendarEventDto> requestEmbeddings(List<GoogleCalendarEventDto> events) {
+        List<String> texts = events.stream()
                 .map(GoogleCalendarEventDto::getTitle)
                 .map(title -> title != null ? title : "")
                 .collect(Collectors.toList());
-        
-        EmbeddingRequest request = EmbeddingRequest.builder()
-                .texts(texts)
-                .build();
-        
-        // FastAPI 호출
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", MediaType.APPLICATION_JSON_VALUE);
-        
-        HttpEntity<EmbeddingRequest> requestEntity = new HttpEntity<>(request, headers);
-        
-        ResponseEntity<EmbeddingResponse> response = restTemplate.exchange(
-                FAST_API_EMBEDDING_URL,
-                HttpMethod.POST,
-                requestEntity,
-                EmbeddingResponse.class
-        );
-        // 응답 처리
-        EmbeddingResponse embeddingResponse = response.getBody();
-        if (embeddingResponse == null || embeddingResponse.getResults() == null) {
-            throw new RuntimeException("임베딩 응답이 비어있습니다");
+
+        List<EmbeddingResult> results;
+        try {
+            results = embeddingClient.embed(texts);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("임베딩 요청이 중단되었습니다.");
+            return events;
         }
-        
-        List<EmbeddingResult> results = embeddingResponse.getResults();
-        List<GoogleCalendarEventDto> embeddedEvents = new ArrayList<>();
-        
-        for (int i = 0; i < batch.size() && i < results.size(); i++) {
-            GoogleCalendarEventDto event = batch.get(i);
+
+        List<GoogleCalendarEventDto> embeddedEvents = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            GoogleCalendarEventDto event = events.get(i);
             EmbeddingResult embeddingResult = results.get(i);
-            
+            if (embeddingResult == null) {
+                embeddedEvents.add(event);
+                continue;
+            }
+
             // 임베딩 결과를 이벤트에 적용
-            GoogleCalendarEventDto embeddedEvent = GoogleCalendarEventDto.builder()
+            embeddedEvents.add(GoogleCalendarEventDto.builder()
                     .id(event.getId())
                     .googleEventId(event.getGoogleEventId())
                     .title(event.getTitle())
                     .startAt(event.getStartAt())
                     .endAt(event.getEndAt())
-                    .embedding(embeddingResult.getEmbedding())
+                    .embedding(EmbeddingVector.of(embeddingResult.getEmbedding()))
                     .categories(embeddingResult.getCategories())
                     .originalText(embeddingResult.getOriginalText())
-                    .build();
-            
-            embeddedEvents.add(embeddedEvent);
+                    .build());
         }
-        
         return embeddedEvents;
     }
     
@@ -417,6 +577,29 @@ public class GoogleAPIService {
         }
     }
     
+    // 캘린더 이벤트 한 페이지
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    private static class CalendarPage {
+        private final List<GoogleCalendarEventDto> events;
+        private final String nextPageToken;
+        private final String nextSyncToken; // 마지막 페이지에만 포함
+    }
+
+    // 페이지별 동기화 결과 누적
+    private static class SyncTotals {
+        private boolean incremental;
+        private String nextSyncToken;
+        private int pages;
+        private int processed;
+        private int embeddingRequested;
+        private int embedded;
+        private int created;
+        private int updated;
+        private int deleted;
+        private int skipped;
+    }
+
     // 동기화 작업 결과 내부 클래스
     @lombok.Data
     @lombok.Builder
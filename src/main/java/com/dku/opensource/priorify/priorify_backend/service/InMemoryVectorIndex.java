@@ -0,0 +1,200 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.util.EmbeddingVectorCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 임베딩을 float[] 슬랩으로 메모리에 올려두고 코사인 top-k 를 계산하는 유사도 엔진
+ * Atlas vector_index 가 없는 로컬/테스트 환경에서도 동작한다.
+ */
+@Slf4j
+public class InMemoryVectorIndex implements SimilarityEngine {
+
+    private final MongoTemplate mongoTemplate;
+    private final long ttlMillis;
+    private final Map<String, UserSlab> slabs;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public InMemoryVectorIndex(MongoTemplate mongoTemplate, long ttlMillis, int maxUsers) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttlMillis = ttlMillis;
+        // 접근 순서 기준 LRU
+        this.slabs = Collections.synchronizedMap(new LinkedHashMap<String, UserSlab>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserSlab> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    @Override
+    public Map<String, List<String>> findSimilarScheduleIds(String userId, Collection<String> scheduleIds, int limit) {
+        Map<String, List<String>> result = new HashMap<>();
+        if (scheduleIds.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        UserSlab slab = getSlab(userId);
+        for (String scheduleId : scheduleIds) {
+            Integer row = slab.rowById.get(scheduleId);
+            if (row != null) {
+                result.put(scheduleId, slab.topK(row, limit));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        invalidations.incrementAndGet();
+        slabs.remove(userId);
+    }
+
+    private UserSlab getSlab(String userId) {
+        long now = System.currentTimeMillis();
+        UserSlab slab = slabs.get(userId);
+        if (slab != null && now - slab.loadedAt < ttlMillis) {
+            return slab;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        slab = load(userId, now);
+        // 로딩 중 무효화가 있었다면 캐시에 넣지 않음 (다음 요청에서 다시 로딩)
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            slabs.put(userId, slab);
+        }
+        return slab;
+    }
+
+    private UserSlab load(String userId, long now) {
+        Document filter = new Document()
+            .append("userId", new ObjectId(userId))
+            .append("embedding", new Document("$exists", true))
+            .append("status", new Document("$in", Arrays.asList("active", "completed")));
+
+        List<String> ids = new ArrayList<>();
+        List<float[]> rows = new ArrayList<>();
+        List<Boolean> candidateFlags = new ArrayList<>();
+        int dimensions = -1;
+
+        for (Document doc : mongoTemplate.getCollection("schedules")
+                .find(filter)
+                .projection(new Document("embedding", 1).append("status", 1))) {
+            float[] row = toUnitVector(EmbeddingVectorCodec.decode(doc.get("embedding")));
+            if (row == null) {
+                continue;
+            }
+            if (dimensions < 0) {
+                dimensions = row.length;
+            } else if (row.length != dimensions) {
+                log.warn("임베딩 차원이 다른 스케줄은 인덱스에서 제외합니다: {} ({} != {})",
+                        doc.getObjectId("_id"), row.length, dimensions);
+                continue;
+            }
+            ids.add(doc.getObjectId("_id").toHexString());
+            rows.add(row);
+            // $vectorSearch 필터와 동일하게 active 스케줄만 후보
+            candidateFlags.add("active".equals(doc.getString("status")));
+        }
+
+        return new UserSlab(ids, rows, candidateFlags, Math.max(dimensions, 0), now);
+    }
+
+    // 정규화된 벡터로 변환 (비어있거나 크기가 0이면 null), 디코딩된 배열을 그대로 재사용
+    private static float[] toUnitVector(float[] vector) {
+        if (vector == null || vector.length == 0) {
+            return null;
+        }
+        double norm = 0.0;
+        for (float value : vector) {
+            norm += (double) value * value;
+        }
+        if (norm == 0.0) {
+            return null;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    /**
+     * 한 사용자의 정규화된 임베딩을 row-major 로 이어붙인 슬랩
+     */
+    private static final class UserSlab {
+        private final String[] ids;
+        private final Map<String, Integer> rowById;
+        private final float[] vectors;
+        private final boolean[] candidates;
+        private final int dimensions;
+        private final long loadedAt;
+
+        private UserSlab(List<String> ids, List<float[]> rows, List<Boolean> candidateFlags, int dimensions, long loadedAt) {
+            int size = ids.size();
+            this.ids = ids.toArray(new String[0]);
+            this.rowById = new HashMap<>(size * 2);
+            this.vectors = new float[size * dimensions];
+            this.candidates = new boolean[size];
+            this.dimensions = dimensions;
+            this.loadedAt = loadedAt;
+            for (int i = 0; i < size; i++) {
+                rowById.put(this.ids[i], i);
+                System.arraycopy(rows.get(i), 0, vectors, i * dimensions, dimensions);
+                candidates[i] = candidateFlags.get(i);
+            }
+        }
+
+        // 자기 자신을 제외한 후보 중 점수 내림차순 상위 limit 개
+        private List<String> topK(int queryRow, int limit) {
+            int[] topRows = new int[limit];
+            double[] topScores = new double[limit];
+            int size = 0;
+            int queryOffset = queryRow * dimensions;
+
+            for (int row = 0; row < ids.length; row++) {
+                if (row == queryRow || !candidates[row]) {
+                    continue;
+                }
+                int offset = row * dimensions;
+                double dot = 0.0;
+                for (int d = 0; d < dimensions; d++) {
+                    dot += vectors[queryOffset + d] * vectors[offset + d];
+                }
+                double score = (1.0 + dot) / 2.0;
+                if (score < SIMILARITY_THRESHOLD || (size == limit && score <= topScores[size - 1])) {
+                    continue;
+                }
+                int pos = size < limit ? size++ : size - 1;
+                while (pos > 0 && topScores[pos - 1] < score) {
+                    topScores[pos] = topScores[pos - 1];
+                    topRows[pos] = topRows[pos - 1];
+                    pos--;
+                }
+                topScores[pos] = score;
+                topRows[pos] = row;
+            }
+
+            List<String> result = new ArrayList<>(size);
+            for (int k = 0; k < size; k++) {
+                result.add(ids[topRows[k]]);
+            }
+            return result;
+        }
+    }
+}
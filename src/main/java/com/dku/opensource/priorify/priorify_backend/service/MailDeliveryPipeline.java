@@ -0,0 +1,145 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.util.TokenBucketRateLimiter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.internet.MimeMessage;
+
+/**
+ * 메일 발송 파이프라인
+ * - 제한된 크기의 큐 (가득 차면 submit 이 대기하여 생산 측 속도를 늦춤)
+ * - 전용 발송 스레드: 큐에서 최대 batchSize 개를 꺼내 SMTP 연결 하나로 연속 발송
+ *   (JavaMailSender.send(MimeMessage...) 는 한 번의 Transport 연결로 모든 메시지를 보낸다)
+ * - 토큰 버킷으로 초당 발송량 제한
+ * - 발송 결과는 submit 이 반환한 CompletableFuture 로 전달 (재시도하지 않음, 재시도는 호출 측 outbox 가 담당)
+ */
+@Slf4j
+public class MailDeliveryPipeline {
+
+    private static final class Delivery {
+        private final MimeMessage message;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Delivery(MimeMessage message) {
+            this.message = message;
+        }
+    }
+
+    private final JavaMailSender javaMailSender;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final BlockingQueue<Delivery> queue;
+    private final List<Thread> senders = new ArrayList<>();
+    private final int batchSize;
+    private volatile boolean running = true;
+
+    public MailDeliveryPipeline(JavaMailSender javaMailSender, TokenBucketRateLimiter rateLimiter,
+                                int queueCapacity, int senderThreads, int batchSize) {
+        this.javaMailSender = javaMailSender;
+        this.rateLimiter = rateLimiter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        for (int i = 0; i < senderThreads; i++) {
+            Thread sender = new Thread(this::senderLoop, "mail-sender-" + threadNumber.incrementAndGet());
+            sender.setDaemon(true);
+            sender.start();
+            senders.add(sender);
+        }
+    }
+
+    /**
+     * 발송 요청 등록 (큐가 가득 차면 자리가 날 때까지 대기)
+     * @return 발송 성공 시 정상 완료, 실패하면 예외로 완료되는 Future
+     */
+    public CompletableFuture<Void> submit(MimeMessage message) throws InterruptedException {
+        Delivery delivery = new Delivery(message);
+        if (!running) {
+            delivery.result.completeExceptionally(new IllegalStateException("메일 발송 파이프라인이 종료되었습니다."));
+            return delivery.result;
+        }
+        queue.put(delivery);
+        return delivery.result;
+    }
+
+    private void senderLoop() {
+        List<Delivery> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Delivery first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                for (int i = 0; i < batch.size(); i++) {
+                    rateLimiter.acquire();
+                }
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(delivery -> delivery.result.completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<Delivery> batch) {
+        MimeMessage[] messages = batch.stream().map(delivery -> delivery.message).toArray(MimeMessage[]::new);
+        try {
+            javaMailSender.send(messages);
+            batch.forEach(delivery -> delivery.result.complete(null));
+        } catch (MailSendException e) {
+            // 연결 하나로 보낸 메시지 중 실패한 것만 실패 처리 (연결 실패 시에는 failedMessages 가 비어 있음)
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (Delivery delivery : batch) {
+                if (failedMessages.isEmpty()) {
+                    delivery.result.completeExceptionally(e);
+                } else if (failedMessages.containsKey(delivery.message)) {
+                    delivery.result.completeExceptionally(failedMessages.get(delivery.message));
+                } else {
+                    delivery.result.complete(null);
+                }
+            }
+            log.warn("메일 발송 실패: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("메일 발송 실패: {}", e.getMessage());
+            batch.forEach(delivery -> delivery.result.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 큐에 남은 메일을 발송 스레드당 최대 30초 동안 발송한 뒤 종료
+     */
+    public void shutdown() {
+        running = false;
+        for (Thread sender : senders) {
+            try {
+                sender.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        Delivery remaining;
+        while ((remaining = queue.poll()) != null) {
+            remaining.result.completeExceptionally(new IllegalStateException("메일 발송 파이프라인이 종료되었습니다."));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.mongodb.client.model.ReplaceOptions;
+
+import lombok.RequiredArgsConstructor;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 일회성 데이터 마이그레이션 완료 기록 (migrations 컬렉션, _id = 마이그레이션 이름)
+ * 완료된 마이그레이션은 다음 시작부터 전체 스캔 없이 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MigrationLog {
+
+    private static final String COLLECTION = "migrations";
+
+    private final MongoTemplate mongoTemplate;
+
+    public boolean isDone(String name) {
+        return mongoTemplate.getCollection(COLLECTION)
+                .find(new Document("_id", name))
+                .limit(1)
+                .first() != null;
+    }
+
+    public void markDone(String name, long affected) {
+        mongoTemplate.getCollection(COLLECTION).replaceOne(
+                new Document("_id", name),
+                new Document("_id", name).append("completedAt", new Date()).append("affected", affected),
+                new ReplaceOptions().upsert(true));
+    }
+}
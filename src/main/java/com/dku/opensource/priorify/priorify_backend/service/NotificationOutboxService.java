@@ -0,0 +1,176 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.model.NotificationOutbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 메일 outbox
+ * - 생성 단계: 렌더링된 메일을 (userId, 날짜, 종류) 키로 한 번만 등록 (이미 있으면 무시)
+ * - 발송 단계: PENDING 이거나 임대가 만료된 SENDING 문서를 임대하여 발송 파이프라인에 넘김
+ *   프로세스가 발송 중 종료되어도 임대 만료 후 다른 워커가 이어서 처리한다.
+ * - 발송 결과(성공/실패)는 여기서만 집계되며, 발송 주기마다 해당 주기에 임대한 알림의 결과를 로그로 남긴다.
+ */
+@Service
+@Slf4j
+public class NotificationOutboxService {
+
+    private static final int DRAIN_BATCH_SIZE = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final EmailService emailService;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+
+    public NotificationOutboxService(MongoTemplate mongoTemplate, EmailService emailService,
+                                     @Value("${priorify.outbox.lease-ms:300000}") long leaseMillis,
+                                     @Value("${priorify.outbox.max-attempts:5}") int maxAttempts,
+                                     @Value("${priorify.outbox.retry-delay-ms:60000}") long retryDelayMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.emailService = emailService;
+        this.leaseMillis = leaseMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    /**
+     * 알림 등록 (같은 키가 이미 있으면 아무것도 하지 않음)
+     * @return 새로 등록되었으면 true
+     */
+    public boolean enqueue(ObjectId userId, LocalDate date, String kind, String email, String subject, byte[] html) {
+        String id = userId.toHexString() + ":" + date + ":" + kind;
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .setOnInsert("userId", userId)
+                .setOnInsert("date", date.toString())
+                .setOnInsert("kind", kind)
+                .setOnInsert("email", email)
+                .setOnInsert("subject", subject)
+                .setOnInsert("html", html)
+                .setOnInsert("status", NotificationOutbox.PENDING)
+                .setOnInsert("attempts", 0)
+                .setOnInsert("leaseUntil", now)
+                .setOnInsert("createdAt", now);
+        return mongoTemplate.upsert(new Query(Criteria.where("_id").is(id)), update, NotificationOutbox.class)
+                .getUpsertedId() != null;
+    }
+
+    /**
+     * 발송 대기 알림을 임대하여 발송 (한 번에 DRAIN_BATCH_SIZE 개까지)
+     * 발송 결과는 기다리지 않고, 모두 나오면 이번 주기의 성공/실패 수를 로그로 남김
+     */
+    @Scheduled(fixedDelayString = "${priorify.outbox.drain-interval-ms:5000}")
+    public void drain() {
+        int claimed = 0;
+        List<CompletableFuture<Boolean>> deliveries = new ArrayList<>();
+        try {
+            NotificationOutbox notification;
+            while (claimed < DRAIN_BATCH_SIZE && (notification = claimNext()) != null) {
+                claimed++;
+                deliveries.add(deliver(notification));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("알림 outbox 발송 중 인터럽트 발생: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("알림 outbox 발송 중 오류 발생: {}", e.getMessage());
+        }
+        if (claimed > 0) {
+            log.info("알림 outbox {}건 발송 요청", claimed);
+            logOutcomes(deliveries);
+        }
+    }
+
+    private void logOutcomes(List<CompletableFuture<Boolean>> deliveries) {
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CompletableFuture<?>[] counted = deliveries.stream()
+                .map(delivery -> delivery.whenComplete((success, e) ->
+                        (e == null && Boolean.TRUE.equals(success) ? sent : failed).incrementAndGet()))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(counted).whenComplete((ignored, e) ->
+                log.info("알림 outbox 발송 결과 - 성공: {}, 실패: {}", sent.get(), failed.get()));
+    }
+
+    // PENDING 또는 임대 만료된 SENDING 문서 하나를 원자적으로 임대
+    private NotificationOutbox claimNext() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(Criteria.where("status").in(NotificationOutbox.PENDING, NotificationOutbox.SENDING)
+                .and("leaseUntil").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "leaseUntil"));
+        Update update = new Update()
+                .set("status", NotificationOutbox.SENDING)
+                .set("leaseUntil", now.plus(Duration.ofMillis(leaseMillis)))
+                .inc("attempts", 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                NotificationOutbox.class);
+    }
+
+    // 발송 결과: 성공하면 true, 실패하면 false (재시도 여부는 markFailed 가 결정)
+    private CompletableFuture<Boolean> deliver(NotificationOutbox notification) throws InterruptedException {
+        try {
+            return emailService.deliver(notification.getEmail(), notification.getSubject(), notification.getHtml())
+                    .handle((ignored, e) -> {
+                        if (e == null) {
+                            markSent(notification);
+                            return true;
+                        }
+                        markFailed(notification, e);
+                        return false;
+                    });
+        } catch (javax.mail.MessagingException e) {
+            markFailed(notification, e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    // 임대한 상태 그대로일 때만 갱신 (임대가 만료되어 다른 워커가 가져간 경우 덮어쓰지 않음)
+    private Query leasedBy(NotificationOutbox notification) {
+        return new Query(Criteria.where("_id").is(notification.getId())
+                .and("status").is(NotificationOutbox.SENDING)
+                .and("leaseUntil").is(notification.getLeaseUntil()));
+    }
+
+    private void markSent(NotificationOutbox notification) {
+        mongoTemplate.updateFirst(leasedBy(notification), new Update()
+                .set("status", NotificationOutbox.SENT)
+                .set("sentAt", LocalDateTime.now())
+                .unset("leaseUntil")
+                .unset("html"), NotificationOutbox.class);
+    }
+
+    private void markFailed(NotificationOutbox notification, Throwable cause) {
+        boolean exhausted = notification.getAttempts() >= maxAttempts;
+        Update update = new Update()
+                .set("status", exhausted ? NotificationOutbox.FAILED : NotificationOutbox.PENDING)
+                .set("lastError", String.valueOf(cause.getMessage()));
+        if (exhausted) {
+            update.unset("leaseUntil");
+        } else {
+            update.set("leaseUntil", LocalDateTime.now().plus(Duration.ofMillis(retryDelayMillis)));
+        }
+        mongoTemplate.updateFirst(leasedBy(notification), update, NotificationOutbox.class);
+        log.warn("알림 {} 발송 실패 ({}회 시도{}): {}", notification.getId(), notification.getAttempts(),
+                exhausted ? ", 최종 실패" : "", cause.getMessage());
+    }
+}
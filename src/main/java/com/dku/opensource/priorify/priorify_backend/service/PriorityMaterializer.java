@@ -0,0 +1,183 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.model.Schedule;
+import com.dku.opensource.priorify.priorify_backend.model.User;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 스케줄별 중요도 사전 계산 값(categoryWeight, urgencyScore, priorityScore, urgencyRefreshAt) 유지
+ * - 스케줄 저장 시, 우선순위 설정 변경 시 다시 계산
+ * - 긴급도는 endAt 과 현재 시각만의 함수이므로 urgencyRefreshAt 이 지난 스케줄만 주기적으로 갱신
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PriorityMaterializer {
+
+    // 긴급도가 이만큼 오르면 다시 계산 (저장된 긴급도의 최대 오차)
+    private static final double URGENCY_STEP = 0.05;
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REFRESH_BATCHES = 20;
+
+    private final MongoTemplate mongoTemplate;
+    private final PriorityScorer priorityScorer;
+
+    // 저장 전 엔티티에 계산 값 반영
+    public void apply(Schedule schedule, User user) {
+        double weight = priorityScorer.maxCategoryWeight(user, schedule.getCategories());
+        long now = System.currentTimeMillis();
+        double urgency = urgency(schedule.getEndAt(), now);
+
+        schedule.setCategoryWeight(weight);
+        schedule.setUrgencyScore(urgency);
+        schedule.setPriorityScore(weight * urgency);
+        schedule.setUrgencyRefreshAt(nextRefreshAt(schedule.getEndAt(), now));
+    }
+
+    // 부분 업데이트에 계산 값 반영
+    public Update apply(Update update, List<String> categories, LocalDateTime endAt, User user) {
+        return apply(update, priorityScorer.maxCategoryWeight(user, categories), endAt, System.currentTimeMillis());
+    }
+
+    // endAt 이 바뀌었을 수 있는 업데이트: 다음 갱신 주기에 긴급도를 다시 계산하도록 표시
+    public Update markUrgencyDue(Update update) {
+        return update.set("urgencyRefreshAt", LocalDateTime.now());
+    }
+
+    /**
+     * 사용자의 모든 스케줄 재계산 (우선순위 설정 변경 시)
+     */
+    public void refreshUser(User user) {
+        ObjectId lastId = null;
+        long now = System.currentTimeMillis();
+        int refreshed = 0;
+
+        while (true) {
+            Criteria criteria = Criteria.where("userId").is(user.getId());
+            if (lastId != null) {
+                criteria = criteria.and("_id").gt(lastId);
+            }
+            Query query = new Query(criteria).with(Sort.by("_id")).limit(BATCH_SIZE);
+            query.fields().include("categories").include("endAt");
+            List<Schedule> schedules = mongoTemplate.find(query, Schedule.class);
+            if (schedules.isEmpty()) {
+                break;
+            }
+
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Schedule.class);
+            for (Schedule schedule : schedules) {
+                double weight = priorityScorer.maxCategoryWeight(user, schedule.getCategories());
+                bulkOps.updateOne(new Query(Criteria.where("_id").is(schedule.getId())),
+                        apply(new Update(), weight, schedule.getEndAt(), now));
+            }
+            refreshed += bulkOps.execute().getModifiedCount();
+            lastId = new ObjectId(schedules.get(schedules.size() - 1).getId());
+        }
+        log.debug("사용자 {} 스케줄 중요도 재계산: {}개", user.getId(), refreshed);
+    }
+
+    /**
+     * urgencyRefreshAt 이 지난 스케줄의 긴급도 갱신
+     */
+    @Scheduled(fixedDelayString = "${priorify.priority.refresh-interval-ms:60000}")
+    public void refreshDueUrgencies() {
+        for (int batch = 0; batch < MAX_REFRESH_BATCHES; batch++) {
+            long now = System.currentTimeMillis();
+            Query query = new Query(Criteria.where("urgencyRefreshAt").lte(toLocalDateTime(now)))
+                    .with(Sort.by("urgencyRefreshAt"))
+                    .limit(BATCH_SIZE);
+            query.fields().include("endAt").include("categoryWeight");
+            List<Schedule> schedules = mongoTemplate.find(query, Schedule.class);
+            if (schedules.isEmpty()) {
+                return;
+            }
+
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Schedule.class);
+            for (Schedule schedule : schedules) {
+                double weight = schedule.getCategoryWeight() != null
+                        ? schedule.getCategoryWeight() : PriorityScorer.DEFAULT_WEIGHT;
+                bulkOps.updateOne(new Query(Criteria.where("_id").is(schedule.getId())),
+                        apply(new Update(), weight, schedule.getEndAt(), now));
+            }
+            bulkOps.execute();
+
+            if (schedules.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 사전 계산 값이 없는 기존 스케줄 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            List<ObjectId> userIds = mongoTemplate.findDistinct(
+                    new Query(Criteria.where("categoryWeight").exists(false)), "userId", Schedule.class, ObjectId.class);
+            for (ObjectId userId : userIds) {
+                User user = mongoTemplate.findById(userId, User.class);
+                if (user != null) {
+                    refreshUser(user);
+                }
+            }
+            if (!userIds.isEmpty()) {
+                log.info("스케줄 중요도 사전 계산 값 채우기 완료: 사용자 {}명", userIds.size());
+            }
+        } catch (Exception e) {
+            log.error("스케줄 중요도 사전 계산 값 채우기 실패: {}", e.getMessage());
+        }
+    }
+
+    private Update apply(Update update, double weight, LocalDateTime endAt, long now) {
+        double urgency = urgency(endAt, now);
+        LocalDateTime refreshAt = nextRefreshAt(endAt, now);
+        update.set("categoryWeight", weight)
+                .set("urgencyScore", urgency)
+                .set("priorityScore", weight * urgency);
+        return refreshAt != null ? update.set("urgencyRefreshAt", refreshAt) : update.unset("urgencyRefreshAt");
+    }
+
+    private double urgency(LocalDateTime endAt, long now) {
+        if (endAt == null) {
+            return PriorityScorer.EXPIRED_URGENCY;
+        }
+        return priorityScorer.urgency(toEpochMillis(endAt), now);
+    }
+
+    // 더 이상 변하지 않으면 null
+    private LocalDateTime nextRefreshAt(LocalDateTime endAt, long now) {
+        if (endAt == null) {
+            return null;
+        }
+        long boundary = priorityScorer.nextUrgencyBoundary(toEpochMillis(endAt), now, URGENCY_STEP);
+        return boundary < 0 ? null : toLocalDateTime(boundary);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
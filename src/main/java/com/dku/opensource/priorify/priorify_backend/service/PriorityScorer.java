@@ -0,0 +1,225 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.model.CategoryPriority;
+import com.dku.opensource.priorify.priorify_backend.model.User;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스케줄 중요도 계산 (중요도 = 긴급도 x 카테고리 가중치)
+ * MongoDB Aggregation 식과 Java 계산이 같은 공식/상수를 쓰도록 이 클래스 한 곳에서만 정의한다.
+ */
+@Component
+public class PriorityScorer {
+
+    // 긴급도: 남은 시간 h(시간) 기준 max(MIN_URGENCY, -ln(A * h + B)), 이미 지난 일정은 EXPIRED_URGENCY
+    public static final double URGENCY_COEFFICIENT_A = 0.01;
+    public static final double URGENCY_COEFFICIENT_B = 0.1;
+    public static final double MIN_URGENCY = 0.1;
+    public static final double EXPIRED_URGENCY = 0.01;
+
+    // 카테고리 가중치: 상위 1~3순위 4.0/3.5/3.0, 하위 1~3순위 0.5/0.4/0.3, 그 외 1.0
+    public static final double HIGH_PRIORITY_WEIGHT = 2.5;
+    public static final double LOW_PRIORITY_WEIGHT = 0.5;
+    public static final double DEFAULT_WEIGHT = 1.0;
+
+    private static final double MILLIS_PER_HOUR = 3600000.0;
+
+    private final Document urgencyExpression = buildUrgencyExpression();
+
+    // 사용자별 컴파일된 가중치 (priorityVersion 이 바뀌면 다시 생성), 접근 순서 기준 LRU 로 최대 maxUsers 명
+    private final Map<ObjectId, CompiledWeights> compiledWeights;
+
+    public PriorityScorer(@Value("${priorify.priority.scorer-cache-size:10000}") int maxUsers) {
+        this.compiledWeights = Collections.synchronizedMap(new LinkedHashMap<ObjectId, CompiledWeights>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ObjectId, CompiledWeights> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    /**
+     * 긴급도 MongoDB Expression (사용자와 무관하므로 한 번만 생성해 재사용, 수정 금지)
+     */
+    public Document urgencyExpression() {
+        return urgencyExpression;
+    }
+
+    /**
+     * 카테고리 가중치 MongoDB Expression ($unwind 된 "$categories" 기준, 캐시된 값이므로 수정 금지)
+     */
+    public Document categoryWeightExpression(User user) {
+        return compile(user).expression;
+    }
+
+    /**
+     * 카테고리별 가중치 (상위 우선순위가 먼저, 같은 카테고리가 중복되면 먼저 나온 값 사용, 수정 금지)
+     */
+    public Map<String, Double> categoryWeights(User user) {
+        return compile(user).weights;
+    }
+
+    /**
+     * 우선순위 설정 변경 시 캐시 제거 (버전이 바뀌므로 필수는 아님)
+     */
+    public void evict(ObjectId userId) {
+        compiledWeights.remove(userId);
+    }
+
+    private CompiledWeights compile(User user) {
+        if (user.getId() == null) {
+            return buildWeights(user);
+        }
+        CompiledWeights cached = compiledWeights.get(user.getId());
+        if (cached != null && cached.version == user.getPriorityVersion()) {
+            return cached;
+        }
+        CompiledWeights compiled = buildWeights(user);
+        compiledWeights.put(user.getId(), compiled);
+        return compiled;
+    }
+
+    private CompiledWeights buildWeights(User user) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        for (CategoryPriority cp : user.getHighPriorities()) {
+            weights.putIfAbsent(cp.getCategory(), highPriorityWeight(cp.getRank()));
+        }
+        for (CategoryPriority cp : user.getLowPriorities()) {
+            weights.putIfAbsent(cp.getCategory(), lowPriorityWeight(cp.getRank()));
+        }
+
+        List<Document> switchBranches = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : weights.entrySet()) {
+            switchBranches.add(new Document()
+                .append("case", new Document("$eq", Arrays.asList("$categories", entry.getKey())))
+                .append("then", entry.getValue()));
+        }
+        Document expression = new Document("$switch", new Document()
+            .append("branches", switchBranches)
+            .append("default", DEFAULT_WEIGHT));
+
+        return new CompiledWeights(user.getPriorityVersion(), Collections.unmodifiableMap(weights), expression);
+    }
+
+    public double highPriorityWeight(int rank) {
+        return HIGH_PRIORITY_WEIGHT + (4 - rank) * 0.5;
+    }
+
+    public double lowPriorityWeight(int rank) {
+        return LOW_PRIORITY_WEIGHT - (rank - 1) * 0.1;
+    }
+
+    public double categoryWeight(Map<String, Double> weights, String category) {
+        if (category == null) {
+            return DEFAULT_WEIGHT;
+        }
+        return weights.getOrDefault(category, DEFAULT_WEIGHT);
+    }
+
+    public double urgency(double hoursRemaining) {
+        if (hoursRemaining <= 0) {
+            return EXPIRED_URGENCY;
+        }
+        return Math.max(MIN_URGENCY, -Math.log(URGENCY_COEFFICIENT_A * hoursRemaining + URGENCY_COEFFICIENT_B));
+    }
+
+    public double urgency(long endAtMillis, long nowMillis) {
+        return urgency((endAtMillis - nowMillis) / MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 긴급도가 현재 값에서 step 만큼 오르는 시점 (epoch millis)
+     * 이미 지난 일정이면 -1 (더 이상 변하지 않음), 그 전에 마감되면 마감 시점
+     */
+    public long nextUrgencyBoundary(long endAtMillis, long nowMillis, double step) {
+        if (endAtMillis <= nowMillis) {
+            return -1;
+        }
+        double target = urgency(endAtMillis, nowMillis) + step;
+        double hoursAtTarget = (Math.exp(-target) - URGENCY_COEFFICIENT_B) / URGENCY_COEFFICIENT_A;
+        if (hoursAtTarget <= 0) {
+            return endAtMillis;
+        }
+        return Math.max(nowMillis, endAtMillis - (long) (hoursAtTarget * MILLIS_PER_HOUR));
+    }
+
+    /**
+     * 여러 스케줄 카테고리 중 가장 큰 가중치 (카테고리가 없으면 기본 가중치)
+     * $unwind 후 카테고리별 중요도의 최댓값과 같다.
+     */
+    public double maxCategoryWeight(User user, List<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return DEFAULT_WEIGHT;
+        }
+        Map<String, Double> weights = categoryWeights(user);
+        double max = Double.NEGATIVE_INFINITY;
+        for (String category : categories) {
+            max = Math.max(max, categoryWeight(weights, category));
+        }
+        return max;
+    }
+
+    /**
+     * 여러 스케줄의 긴급도를 한 번에 계산 (endAtMillis[i] -> out[i])
+     */
+    public void urgency(long[] endAtMillis, long nowMillis, double[] out) {
+        for (int i = 0; i < endAtMillis.length; i++) {
+            out[i] = urgency(endAtMillis[i], nowMillis);
+        }
+    }
+
+    /**
+     * 중요도 = 긴급도 x 가중치 (urgency[i] * weights[i] -> out[i])
+     */
+    public void priority(double[] urgency, double[] weights, double[] out) {
+        for (int i = 0; i < urgency.length; i++) {
+            out[i] = urgency[i] * weights[i];
+        }
+    }
+
+    private static final class CompiledWeights {
+        private final long version;
+        private final Map<String, Double> weights;
+        private final Document expression;
+
+        private CompiledWeights(long version, Map<String, Double> weights, Document expression) {
+            this.version = version;
+            this.weights = weights;
+            this.expression = expression;
+        }
+    }
+
+    private static Document buildUrgencyExpression() {
+        return new Document("$let", new Document()
+            .append("vars", new Document()
+                .append("hoursRemaining", new Document("$divide", Arrays.asList(
+                    new Document("$subtract", Arrays.asList("$endAt", "$$NOW")),
+                    3600000 // milliseconds to hours
+                ))))
+            .append("in", new Document("$cond", Arrays.asList(
+                new Document("$lte", Arrays.asList("$$hoursRemaining", 0)),
+                EXPIRED_URGENCY, // 이미 지난 일정은 최저 우선순위
+                new Document("$max", Arrays.asList(
+                    MIN_URGENCY,
+                    new Document("$multiply", Arrays.asList(
+                        -1,
+                        new Document("$ln", new Document("$add", Arrays.asList(
+                            new Document("$multiply", Arrays.asList(URGENCY_COEFFICIENT_A, "$$hoursRemaining")),
+                            URGENCY_COEFFICIENT_B
+                        )))
+                    ))
+                ))
+            ))));
+    }
+}
@@ -3,6 +3,8 @@ package com.dku.opensource.priorify.priorify_backend.service;
 import com.dku.opensource.priorify.priorify_backend.dto.PriorityDto;
 import com.dku.opensource.priorify.priorify_backend.model.CategoryPriority;
 import com.dku.opensource.priorify.priorify_backend.model.User;
+import com.dku.opensource.priorify.priorify_backend.security.RequestUserContext;
+import com.dku.opensource.priorify.priorify_backend.security.UserPrincipalCache;
 import com.mongodb.client.result.UpdateResult;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,9 +34,19 @@ public class PriorityService {
     private MongoTemplate mongoTemplate;
 
     private final UserService userService;
+    private final PriorityScorer priorityScorer;
+    private final PriorityMaterializer priorityMaterializer;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RequestUserContext requestUserContext;
 
-    public PriorityService(UserService userService) {
+    public PriorityService(UserService userService, PriorityScorer priorityScorer,
+                           PriorityMaterializer priorityMaterializer, UserPrincipalCache userPrincipalCache,
+                           RequestUserContext requestUserContext) {
         this.userService = userService;
+        this.priorityScorer = priorityScorer;
+        this.priorityMaterializer = priorityMaterializer;
+        this.userPrincipalCache = userPrincipalCache;
+        this.requestUserContext = requestUserContext;
     }
 
 
@@ -44,6 +56,7 @@ public class PriorityService {
         Update update = new Update();
         update.set("highPriorities", priorityDto.getHighPriorities());
         update.set("lowPriorities", priorityDto.getLowPriorities());
+        update.inc("priorityVersion", 1); // 캐시된 가중치 Expression 무효화
         UpdateResult result = mongoTemplate.updateFirst(
             new Query(Criteria.where("id").is(userId)),
             update,
@@ -53,11 +66,15 @@ public class PriorityService {
         if (result.getModifiedCount() == 0) {
             return ResponseEntity.status(HttpStatus.SC_NOT_FOUND).body("사용자를 찾을 수 없습니다.");
         }
+        priorityScorer.evict(userId);
+        userPrincipalCache.invalidate(userId);
+        // 스케줄별 사전 계산된 카테고리 가중치 갱신
+        userService.findById(userId).ifPresent(priorityMaterializer::refreshUser);
 
         return ResponseEntity.ok("우선순위가 설정되었습니다.");
     }
     public PriorityDto getPriorities(String userId) {
-        Optional<User> userOpt = userService.findById(new ObjectId(userId));
+        Optional<User> userOpt = requestUserContext.findById(new ObjectId(userId));
         if (!userOpt.isPresent()) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
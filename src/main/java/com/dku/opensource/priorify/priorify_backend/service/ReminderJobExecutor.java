@@ -0,0 +1,146 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 배치 작업 실행기
+ * - 사용자 단위 작업을 워커 풀에서 병렬 처리 (대기 중인 작업 수는 워커 수의 2배로 제한)
+ * - 작업은 알림을 outbox 에 등록만 하므로 등록/건너뜀/실패만 집계한다
+ *   (실제 발송 결과는 NotificationOutboxService 가 발송 주기마다 집계)
+ */
+@Slf4j
+public class ReminderJobExecutor {
+
+    @FunctionalInterface
+    public interface Task<T> {
+        /**
+         * @return 새로 등록한 알림이 있으면 true, 등록할 것이 없거나 이미 등록되어 있으면 false (예외 발생 시 실패로 집계)
+         */
+        boolean run(T item) throws Exception;
+    }
+
+    public static final class Result {
+        private final int registeredCount;
+        private final int skippedCount;
+        private final int failureCount;
+
+        Result(int registeredCount, int skippedCount, int failureCount) {
+            this.registeredCount = registeredCount;
+            this.skippedCount = skippedCount;
+            this.failureCount = failureCount;
+        }
+
+        public int getRegisteredCount() {
+            return registeredCount;
+        }
+
+        public int getSkippedCount() {
+            return skippedCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public int getTotalCount() {
+            return registeredCount + skippedCount + failureCount;
+        }
+    }
+
+    private final ExecutorService workers;
+    private final int workerCount;
+
+    public ReminderJobExecutor(int workerCount) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "reminder-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workerCount = workerCount;
+    }
+
+    /**
+     * items 를 순서대로 꺼내 워커 풀에 제출하고 모든 작업이 끝날 때까지 대기
+     * items 는 호출 스레드에서만 순회하므로 커서/페이지 이터레이터를 그대로 넘겨도 된다.
+     */
+    public <T> Result run(String jobName, Iterator<T> items, Task<T> task) throws InterruptedException {
+        AtomicInteger registeredCount = new AtomicInteger();
+        AtomicInteger skippedCount = new AtomicInteger();
+        AtomicInteger failureCount = new AtomicInteger();
+        PendingCounter pending = new PendingCounter();
+        int maxInFlight = workerCount * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        while (items.hasNext()) {
+            T item = items.next();
+            inFlight.acquire();
+            pending.increment();
+            try {
+                workers.execute(() -> {
+                    try {
+                        if (task.run(item)) {
+                            registeredCount.incrementAndGet();
+                        } else {
+                            skippedCount.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        log.error("[{}] 작업 처리 중 오류 발생: {}", jobName, e.getMessage());
+                        failureCount.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                        pending.decrement();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                pending.decrement();
+                throw e;
+            }
+        }
+
+        // 남은 작업 대기
+        pending.awaitZero();
+        return new Result(registeredCount.get(), skippedCount.get(), failureCount.get());
+    }
+
+    // 끝나지 않은 작업 수
+    private static final class PendingCounter {
+        private int count;
+
+        synchronized void increment() {
+            count++;
+        }
+
+        synchronized void decrement() {
+            if (--count == 0) {
+                notifyAll();
+            }
+        }
+
+        synchronized void awaitZero() throws InterruptedException {
+            while (count > 0) {
+                wait();
+            }
+        }
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
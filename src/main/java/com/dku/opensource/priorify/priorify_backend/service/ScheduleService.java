@@ -4,29 +4,31 @@ import com.dku.opensource.priorify.priorify_backend.dto.*;
 import com.dku.opensource.priorify.priorify_backend.model.Schedule;
 import com.dku.opensource.priorify.priorify_backend.model.User; 
 import com.dku.opensource.priorify.priorify_backend.model.CategoryPriority;
+import com.dku.opensource.priorify.priorify_backend.security.RequestUserContext;
 
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.bson.Document;
+import com.mongodb.client.MongoCursor;
 import org.bson.types.ObjectId;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
-import javax.mail.MessagingException;
 
 @Service
 @RequiredArgsConstructor
@@ -35,35 +37,76 @@ public class ScheduleService {
     
     private final MongoTemplate mongoTemplate;
     private final UserService userService;
+    private final RequestUserContext requestUserContext; // 읽기 전용 (그래프 조회)
     private final EmailService emailService;
+    private final SimilarityEngine similarityEngine;
+    private final PriorityScorer priorityScorer;
+    private final PriorityMaterializer priorityMaterializer;
+    private final ReminderJobExecutor reminderJobExecutor;
+    private final NotificationOutboxService notificationOutboxService;
     
-    // 중요도 계산 상수
-    private static final double URGENCY_COEFFICIENT_A = 0.01;
-    private static final double URGENCY_COEFFICIENT_B = 0.1;
-    private static final double HIGH_PRIORITY_WEIGHT = 2.5;
-    private static final double LOW_PRIORITY_WEIGHT = 0.5;
-    private static final double SIMILARITY_THRESHOLD = 0.6;
+    private static final int SIMILAR_SCHEDULE_LIMIT = 5;
     
     // 배치 처리 상수
-    private static final int BATCH_SIZE = 5; // 한 번에 처리할 사용자 수
-    private static final long BATCH_DELAY_MS = 1000; // 배치 간 지연 시간 (밀리초)
+    private static final int USER_PAGE_SIZE = 500; // 사용자 조회 페이지 크기
+    private static final int TOP_PRIORITY_LIMIT = 2; // 상위 우선순위 알림에 포함할 스케줄 수
+    private static final int[] REMINDER_DAYS = {0, 1, 3, 7}; // 알림 보낼 남은 날짜 기준
+
+    @Value("${priorify.reminder.digest-mode:true}")
+    private boolean digestMode; // 사용자별 일일 알림을 메일 한 통으로 묶어 발송
 
     // 스케줄 생성
     public Schedule createSchedule(Schedule schedule) {
         schedule.setCreatedAt(LocalDateTime.now());
         schedule.setUpdatedAt(LocalDateTime.now());
-        return mongoTemplate.save(schedule);
+        // 중요도를 저장하므로 캐시된 사용자가 아닌 최신 카테고리 가중치로 계산
+        userService.findById(schedule.getUserId())
+                .ifPresent(user -> priorityMaterializer.apply(schedule, user));
+        Schedule saved = mongoTemplate.save(schedule);
+        similarityEngine.invalidate(saved.getUserId().toHexString());
+        return saved;
     }
 
-    // 스케줄 업데이트
+    // 스케줄 업데이트 (문서 전체를 덮어쓰지 않고 수정 가능한 필드만 갱신 -> 제목이 같으면 임베딩 유지)
     public Schedule updateSchedule(Schedule schedule) {
-        schedule.setUpdatedAt(LocalDateTime.now());
-        return mongoTemplate.save(schedule);
+        // 제목이 바뀌면 이전 제목의 임베딩 제거 후 재임베딩 대상으로 표시 (EmbeddingRetryJob 이 처리)
+        Query titleChanged = ownedScheduleQuery(schedule.getId(), schedule.getUserId().toHexString());
+        titleChanged.addCriteria(Criteria.where("title").ne(schedule.getTitle()));
+        mongoTemplate.updateFirst(titleChanged, new Update()
+                .unset("embedding")
+                .set("embeddingPending", true)
+                .unset("embeddingRetryCount")
+                .unset("embeddingRetryAt"), Schedule.class);
+
+        Update update = new Update()
+                .set("title", schedule.getTitle())
+                .set("categories", schedule.getCategories())
+                .set("startAt", schedule.getStartAt())
+                .set("endAt", schedule.getEndAt())
+                .set("status", schedule.getStatus())
+                .set("connections", schedule.getConnections())
+                .set("updatedAt", LocalDateTime.now());
+        Optional<User> user = userService.findById(schedule.getUserId()); // 최신 카테고리 가중치로 중요도 저장
+        if (user.isPresent()) {
+            priorityMaterializer.apply(update, schedule.getCategories(), schedule.getEndAt(), user.get());
+        }
+        mongoTemplate.updateFirst(ownedScheduleQuery(schedule.getId(), schedule.getUserId().toHexString()), update, Schedule.class);
+        similarityEngine.invalidate(schedule.getUserId().toHexString());
+        return getScheduleById(schedule.getId());
+    }
+
+    // 스케줄 상태만 변경 (soft delete 등)
+    public void updateScheduleStatus(String userId, String scheduleId, String status) {
+        Update update = new Update()
+                .set("status", status)
+                .set("updatedAt", LocalDateTime.now());
+        mongoTemplate.updateFirst(ownedScheduleQuery(scheduleId, userId), update, Schedule.class);
+        similarityEngine.invalidate(userId);
     }
 
     // 사용자의 모든 스케줄을 Node Connection Graph 형태로 조회
     public ScheduleGraphResponseDto getScheduleGraph(String userId, int days) {
-        Optional<User> userOpt = userService.findById(new ObjectId(userId));
+        Optional<User> userOpt = requestUserContext.findById(new ObjectId(userId));
         if (!userOpt.isPresent()) {
             throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
         }
@@ -89,6 +132,15 @@ public class ScheduleService {
         // 스케줄 ID를 키로 하는 Map을 생성하여 중복 방지
         Map<String, GraphNodeDto> scheduleNodes = new HashMap<>();
         Map<String, ScheduleListDto> scheduleList = new HashMap<>();
+
+        // 유사 스케줄은 스케줄마다 조회하지 않고 한 번에 계산
+        Set<String> graphScheduleIds = new LinkedHashSet<>();
+        for (Document categoryDoc : categorySchedules) {
+            for (Document scheduleDoc : categoryDoc.getList("schedules", Document.class)) {
+                graphScheduleIds.add(scheduleDoc.getString("_id"));
+            }
+        }
+        Map<String, List<String>> similarScheduleIds = findSimilarScheduleIds(graphScheduleIds, userId);
         
         for (Document categoryDoc : categorySchedules) {
             String categoryName = categoryDoc.getString("_id");
@@ -130,7 +182,7 @@ public class ScheduleService {
                         "category-schedule", scheduleNode.getPriority()));
                 
                 // 유사한 스케줄들과의 연결 엣지 생성
-                List<String> similarIds = findSimilarScheduleIds(scheduleId, userId);
+                List<String> similarIds = similarScheduleIds.getOrDefault(scheduleId, new ArrayList<>());
                 scheduleNode.setSimilarScheduleIds(similarIds);
                 
                 for (String similarId : similarIds) {
@@ -185,8 +237,8 @@ public class ScheduleService {
                 .append("path", "$categories")
                 .append("preserveNullAndEmptyArrays", true)),
             new Document("$addFields", new Document()
-                .append("urgencyScore", createUrgencyScoreExpression())
-                .append("categoryWeight", createCategoryWeightExpression(user))),
+                .append("urgencyScore", priorityScorer.urgencyExpression())
+                .append("categoryWeight", priorityScorer.categoryWeightExpression(user))),
             new Document("$addFields", new Document()
                 .append("priority", new Document("$multiply", Arrays.asList("$urgencyScore", "$categoryWeight")))),
             new Document("$group", new Document()
@@ -215,90 +267,6 @@ public class ScheduleService {
         return results;
     }
     
-    /**
-     * 긴급도 계산을 위한 MongoDB Expression 생성
-     */
-    private Document createUrgencyScoreExpression() {
-        return new Document("$let", new Document()
-            .append("vars", new Document()
-                .append("hoursRemaining", new Document("$divide", Arrays.asList(
-                    new Document("$subtract", Arrays.asList("$endAt", "$$NOW")),
-                    3600000 // milliseconds to hours
-                ))))
-            .append("in", new Document("$cond", Arrays.asList(
-                new Document("$lte", Arrays.asList("$$hoursRemaining", 0)),
-                0.01, // 이미 지난 일정은 최저 우선순위
-                new Document("$max", Arrays.asList(
-                    0.1, // 최소값
-                    new Document("$multiply", Arrays.asList(
-                        -1,
-                        new Document("$ln", new Document("$add", Arrays.asList(
-                            new Document("$multiply", Arrays.asList(URGENCY_COEFFICIENT_A, "$$hoursRemaining")),
-                            URGENCY_COEFFICIENT_B
-                        )))
-                    ))
-                ))
-            ))));
-    }
-    
-    // 가중치 계산 함수
-    private Document createCategoryWeightExpression(User user) {
-        List<String> highPriorities = user.getHighPriorities() != null ? 
-                user.getHighPriorities().stream()
-                        .map(cp -> cp.getCategory())
-                        .collect(Collectors.toList()) : new ArrayList<>();
-                        
-        List<String> lowPriorities = user.getLowPriorities() != null ?
-                user.getLowPriorities().stream()
-                        .map(cp -> cp.getCategory())
-                        .collect(Collectors.toList()) : new ArrayList<>();
-        
-        Map<String, Integer> highPriorityRanks = user.getHighPriorities() != null ?
-                user.getHighPriorities().stream()
-                        .collect(Collectors.toMap(
-                            cp -> cp.getCategory(),
-                            cp -> cp.getRank(),
-                            (existing, replacement) -> existing)) : new HashMap<>();
-
-        Map<String, Integer> lowPriorityRanks = user.getLowPriorities() != null ?
-                user.getLowPriorities().stream()
-                        .collect(Collectors.toMap(
-                            cp -> cp.getCategory(),
-                            cp -> cp.getRank(),
-                            (existing, replacement) -> existing)) : new HashMap<>();
-        
-        System.out.println("highPriorities: " + highPriorities);
-        System.out.println("lowPriorities: " + lowPriorities);
-        System.out.println("highPriorityRanks: " + highPriorityRanks);
-        System.out.println("lowPriorityRanks: " + lowPriorityRanks);
-        
-        List<Document> switchBranches = new ArrayList<>();
-        
-        for (Map.Entry<String, Integer> entry : highPriorityRanks.entrySet()) {
-            String category = entry.getKey();
-            Integer rank = entry.getValue();
-            double weight = HIGH_PRIORITY_WEIGHT + (4 - rank) * 0.5; // 1순위 4.0, 2순위 3.5, 3순위 3.0
-            
-            switchBranches.add(new Document()
-                .append("case", new Document("$eq", Arrays.asList("$categories", category)))
-                .append("then", weight));
-        }
-        
-        for (Map.Entry<String, Integer> entry : lowPriorityRanks.entrySet()) {
-            String category = entry.getKey();
-            Integer rank = entry.getValue();
-            double weight = LOW_PRIORITY_WEIGHT - (rank - 1) * 0.1; // 1순위 0.3, 2순위 0.4, 3순위 0.5
-            
-            switchBranches.add(new Document()
-                .append("case", new Document("$eq", Arrays.asList("$categories", category)))
-                .append("then", weight));
-        }
-        
-        return new Document("$switch", new Document()
-            .append("branches", switchBranches)
-            .append("default", 1.0)); // 기본 가중치
-    }
-    
     // 사용자 루트 노드 생성
     private GraphNodeDto createUserNode(User user) {
         return GraphNodeDto.builder()
@@ -360,52 +328,18 @@ public class ScheduleService {
                 .build();
     }
     
-    // 유사한 스케줄 ID들 찾기
-    private List<String> findSimilarScheduleIds(String scheduleId, String userId) {
-        // 현재 스케줄의 임베딩 벡터 조회
-        Schedule currentSchedule = mongoTemplate.findById(scheduleId, Schedule.class);
-        if (currentSchedule == null || currentSchedule.getEmbedding() == null || 
-            currentSchedule.getEmbedding().isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        List<Double> queryVector = currentSchedule.getEmbedding();
-        
-        List<Document> pipeline = Arrays.asList(
-            new Document("$vectorSearch", new Document()
-                .append("index", "vector_index")
-                .append("path", "embedding")
-                .append("queryVector", queryVector)
-                .append("numCandidates", 100)
-                .append("limit", 20)
-                .append("filter", new Document()
-                    .append("userId", new ObjectId(userId))
-                    .append("status", "active"))),
-            new Document("$match", new Document()
-                .append("_id", new Document("$ne", new ObjectId(scheduleId)))),
-            new Document("$addFields", new Document()
-                .append("similarity", new Document("$meta", "vectorSearchScore"))),
-            new Document("$match", new Document()
-                .append("similarity", new Document("$gte", SIMILARITY_THRESHOLD))),
-            new Document("$limit", 5),
-            new Document("$project", new Document()
-                .append("_id", new Document("$toString", "$_id")))
-        );
-        
+    // 유사한 스케줄 ID들 찾기 (그래프의 모든 스케줄을 한 번에)
+    private Map<String, List<String>> findSimilarScheduleIds(Collection<String> scheduleIds, String userId) {
+        Map<String, List<String>> similarIds = new HashMap<>();
         try {
-            List<Document> results = new ArrayList<>();
-            mongoTemplate.getCollection("schedules")
-                    .aggregate(pipeline, Document.class)
-                    .into(results);
-            
-            return results.stream()
-                    .map(doc -> "schedule_" + doc.getString("_id"))
-                    .collect(Collectors.toList());
-                    
+            similarityEngine.findSimilarScheduleIds(userId, scheduleIds, SIMILAR_SCHEDULE_LIMIT)
+                    .forEach((scheduleId, ids) -> similarIds.put(scheduleId, ids.stream()
+                            .map(id -> "schedule_" + id)
+                            .collect(Collectors.toList())));
         } catch (Exception e) {
-            log.error("Vector Search 실행 중 오류 발생: {}", e.getMessage());
-            return new ArrayList<>();
+            log.error("유사 스케줄 검색 중 오류 발생: {}", e.getMessage());
         }
+        return similarIds;
     }
     
     // 상위 카테고리들 추출
@@ -479,9 +413,21 @@ public class ScheduleService {
                 .build();
     }
     
-    // 특정 스케줄 조회
+    // 특정 스케줄 조회 (임베딩 제외)
     public Schedule getScheduleById(String scheduleId) {
-        return mongoTemplate.findById(scheduleId, Schedule.class);
+        Query query = new Query(Criteria.where("_id").is(scheduleId));
+        query.fields().exclude("embedding");
+        return mongoTemplate.findOne(query, Schedule.class);
+    }
+
+    // 스케줄 소유자 확인 (문서를 읽지 않고 존재 여부만 확인)
+    public boolean isScheduleOwner(String scheduleId, String userId) {
+        return mongoTemplate.exists(ownedScheduleQuery(scheduleId, userId), Schedule.class);
+    }
+
+    private Query ownedScheduleQuery(String scheduleId, String userId) {
+        return new Query(Criteria.where("_id").is(scheduleId)
+                .and("userId").is(new ObjectId(userId)));
     }
     
     // 사용자의 모든 스케줄 조회
@@ -498,7 +444,7 @@ public class ScheduleService {
                 .append("endAt", "$endAt")
                 .append("categories", "$categories")
                 .append("status", "$status")
-                .append("priority", "$priority"))
+                .append("priority", "$priorityScore"))
         );
 
         List<Document> results = new ArrayList<>();
@@ -516,158 +462,155 @@ public class ScheduleService {
     }
 
     public void toggleScheduleStatus(String userId, String scheduleId) {
-        Schedule schedule = mongoTemplate.findById(scheduleId, Schedule.class);
+        Query query = ownedScheduleQuery(scheduleId, userId);
+        query.fields().include("status");
+        Schedule schedule = mongoTemplate.findOne(query, Schedule.class);
         if (schedule == null) {
             throw new RuntimeException("스케줄을 찾을 수 없습니다.");
         }
-        schedule.setStatus(schedule.getStatus().equals("active") ? "completed" : "active");
-        mongoTemplate.save(schedule);
-    }
-
-
-   @Scheduled(cron = "0 0 0 * * ?") // 매일 0시 0분 0초에 실행
-   public void sendDailyScheduleReminders() {
-       log.info("스케줄 알림 배치 작업 시작 at {}", LocalDateTime.now());
-
-       long totalUsers = getTotalUserCount();
-       log.info("처리 대상 총 사용자 수: {}", totalUsers);
-       
-       if (totalUsers == 0) {
-           log.info("처리할 사용자가 없습니다.");
-           return;
-       }
-
-       LocalDateTime now = LocalDateTime.now();
-       LocalDateTime startOfToday = now.truncatedTo(ChronoUnit.DAYS);
-       final double HIGH_PRIORITY_THRESHOLD = 3.0; // 중요 스케줄 알림 기준 가중치
-
-       int totalBatches = (int) Math.ceil((double) totalUsers / BATCH_SIZE);
-       int totalSuccessCount = 0;
-       int totalFailureCount = 0;
-
-       for (int batchNumber = 0; batchNumber < totalBatches; batchNumber++) {
-           try {
-               Page<User> userPage = getUsersInBatch(batchNumber, BATCH_SIZE);
-               List<User> users = userPage.getContent();
-               
-               if (users.isEmpty()) {
-                   log.info("배치 {}에 사용자가 없습니다. 배치 처리 종료.", batchNumber + 1);
-                   break;
-               }
-
-               int batchSuccessCount = 0;
-               int batchFailureCount = 0;
-
-               log.info("배치 {}/{} 처리 시작 (사용자 {}명)", batchNumber + 1, totalBatches, users.size());
-
-               for (User user : users) {
-                   try {
-                       if (user.getEmail() == null || user.getEmail().isEmpty()) {
-                           log.warn("사용자 {} ({})의 이메일 주소가 없어 알림을 건너뜁니다.", user.getId(), user.getName());
-                           batchFailureCount++;
-                           continue;
-                       }
-
-                       List<ScheduleListDto> userSchedules = getUserSchedules(user.getId().toString());
-
-                       // 1. 중요도 높은 스케줄 알림 (오늘 또는 내일 시작/마감되는 스케줄 중)
-                       List<ScheduleListDto> highPrioritySchedules = userSchedules.stream()
-                               .filter(schedule -> schedule.getPriority() != null && schedule.getPriority() >= HIGH_PRIORITY_THRESHOLD)
-                               .filter(schedule -> schedule.getStartDate() != null &&
-                                       (schedule.getStartDate().toLocalDate().isEqual(startOfToday.toLocalDate()) || // 오늘 시작
-                                        schedule.getStartDate().toLocalDate().isEqual(startOfToday.toLocalDate().plusDays(1)))) // 내일 시작
-                               .collect(Collectors.toList());
-                       
-                       boolean sentHighPriorityEmail = false;
-                       if (!highPrioritySchedules.isEmpty()) {
-                           sortSchedulesForEmail(highPrioritySchedules, user); // 중요도 높은 순, 다음 제목 순으로 정렬
-                           String subject = String.format("Priorify: 오늘/내일의 중요 스케줄! (%s)", emailService.todayDate());
-                           try {
-                               int representativeDaysRemaining = highPrioritySchedules.stream()
-                                                                    .mapToInt(s -> (int)ChronoUnit.DAYS.between(startOfToday, s.getStartDate().truncatedTo(ChronoUnit.DAYS)))
-                                                                    .min().orElse(0);
-
-                               emailService.sendEmailNotice(user.getEmail(), subject, highPrioritySchedules, representativeDaysRemaining);
-                               log.debug("사용자 {} ({})에게 중요 스케줄 알림 이메일 발송 완료 (스케줄 {}개)", user.getId(), user.getName(), highPrioritySchedules.size());
-                               sentHighPriorityEmail = true;
-                           } catch (MessagingException e) {
-                               log.error("사용자 {} ({})에게 중요 스케줄 알림 이메일 발송 실패: {}", user.getId(), user.getName(), e.getMessage());
-                               batchFailureCount++;
-                               continue;
-                           }
-                       }
-
-                       // 2. 기존의 마감 임박 스케줄 알림 (0, 1, 3, 7일 후 시작)
-                       Map<Integer, List<ScheduleListDto>> remindersByDays = userSchedules.stream()
-                               .filter(schedule -> schedule.getStartDate() != null && !schedule.getStartDate().isBefore(startOfToday))
-                               .collect(Collectors.groupingBy(schedule -> {
-                                   long days = ChronoUnit.DAYS.between(startOfToday, schedule.getStartDate().truncatedTo(ChronoUnit.DAYS));
-                                   if (days == 0) return 0; // 오늘 시작
-                                   if (days == 1) return 1; // 내일 시작
-                                   if (days == 3) return 3; // 3일 후 시작
-                                   if (days == 7) return 7; // 7일 후 시작
-                                   return -1; // 알림 대상 날짜가 아니면 -1 그룹으로 (필터링되지 않은 경우)
-                               }));
-
-                       int[] notificationDays = {0, 1, 3, 7}; // 알림 보낼 남은 날짜 기준
-                       boolean sentAnyEmail = sentHighPriorityEmail;
-                       
-                       for (int days : notificationDays) {
-                           List<ScheduleListDto> schedulesToSend = remindersByDays.getOrDefault(days, Collections.emptyList());
-
-                           // 중요도 알림에서 이미 보낸 스케줄 제외 로직 (ID 기반)
-                           List<String> highPriorityScheduleIds = highPrioritySchedules.stream().map(ScheduleListDto::getId).collect(Collectors.toList());
-                           schedulesToSend = schedulesToSend.stream()
-                                                .filter(s -> !highPriorityScheduleIds.contains(s.getId()))
-                                                .collect(Collectors.toList());
-
-                           if (!schedulesToSend.isEmpty()) {
-                               sortSchedulesForEmail(schedulesToSend, user);
-                               String subject = String.format("Priorify 스케줄 알림: %s 시작", (days == 0 ? "오늘" : (days == 1 ? "내일" : days + "일 후")));
-                               try {
-                                   emailService.sendEmailNotice(user.getEmail(), subject, schedulesToSend, days);
-                                   log.debug("사용자 {} ({})에게 {}일 후 스케줄 알림 이메일 발송 완료 (스케줄 {}개)", user.getId(), user.getName(), days, schedulesToSend.size());
-                                   sentAnyEmail = true;
-                               } catch (javax.mail.MessagingException e) { 
-                                   log.error("사용자 {} ({})에게 {}일 후 스케줄 알림 이메일 발송 실패: {}", user.getId(), user.getName(), days, e.getMessage());
-                                   batchFailureCount++;
-                               }
-                           }
-                       }
-                       
-                       if (sentAnyEmail) {
-                           batchSuccessCount++;
-                       } else {
-                           batchSuccessCount++; // 보낼 스케줄이 없는 것도 정상 처리로 간주
-                       }
-                       
-                   } catch (Exception e) { 
-                       log.error("사용자 {} ({})에게 스케줄 알림 중 예상치 못한 오류 발생: {}", user.getId(), user.getName(), e.getMessage());
-                       batchFailureCount++;
-                   }
-               }
-
-               totalSuccessCount += batchSuccessCount;
-               totalFailureCount += batchFailureCount;
-               
-               logBatchStatistics(batchNumber + 1, users.size(), batchSuccessCount, batchFailureCount, totalUsers);
-
-               // 마지막 배치가 아니면 지연 시간 추가
-               if (batchNumber < totalBatches - 1) {
-                   waitBetweenBatches();
-               }
-
-           } catch (Exception e) {
-               log.error("배치 {} 처리 중 치명적 오류 발생: {}", batchNumber + 1, e.getMessage());
-               totalFailureCount += BATCH_SIZE; // 배치 전체를 실패로 처리
-           }
-       }
-       
-       log.info("스케줄 알림 배치 작업 완료 - 총 성공: {}, 총 실패: {}, 총 사용자: {}", 
-               totalSuccessCount, totalFailureCount, totalUsers);
-   }
+        updateScheduleStatus(userId, scheduleId, "active".equals(schedule.getStatus()) ? "completed" : "active");
+    }
+
+
+    @Scheduled(cron = "0 0 0 * * ?") // 매일 0시 0분 0초에 실행
+    public void sendDailyScheduleReminders() {
+        log.info("스케줄 알림 배치 작업 시작 at {}", LocalDateTime.now());
+
+        long totalUsers = mongoTemplate.estimatedCount(User.class);
+        log.info("처리 대상 총 사용자 수: {}", totalUsers);
+
+        if (totalUsers == 0) {
+            log.info("처리할 사용자가 없습니다.");
+            return;
+        }
 
+        LocalDateTime startOfToday = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        try (MongoCursor<Document> cursor = streamReminderCandidates(startOfToday)) {
+            Iterator<UserScheduleGroup> targets = joinWithUsers(cursor, new UserCursor(mongoTemplate, USER_PAGE_SIZE));
+            ReminderJobExecutor.Result result = reminderJobExecutor.run("daily-reminder", targets,
+                    target -> sendDailyReminder(target, startOfToday));
+            log.info("스케줄 알림 배치 작업 완료 (outbox 등록, 발송 결과는 outbox 발송 로그 참고) - 신규 등록: {}, 건너뜀: {}, 실패: {}, 알림 대상 사용자: {}, 총 사용자: {}",
+                    result.getRegisteredCount(), result.getSkippedCount(), result.getFailureCount(), result.getTotalCount(), totalUsers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("스케줄 알림 배치 작업 중 인터럽트 발생: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("스케줄 알림 배치 작업 중 치명적 오류 발생: {}", e.getMessage());
+        }
+    }
 
+    /**
+     * 0, 1, 3, 7일 후 시작하는 모든 사용자의 활성 스케줄을 한 번의 집계로 조회 (startAt 범위 스캔)
+     * 결과: userId 오름차순 { _id: userId, schedules: [...] }
+     */
+    private MongoCursor<Document> streamReminderCandidates(LocalDateTime startOfToday) {
+        List<Document> startRanges = Arrays.stream(REMINDER_DAYS)
+                .mapToObj(days -> new Document("startAt", new Document()
+                        .append("$gte", startOfToday.plusDays(days))
+                        .append("$lt", startOfToday.plusDays(days + 1))))
+                .collect(Collectors.toList());
+
+        Document match = new Document()
+                .append("status", "active")
+                .append("$or", startRanges);
+        return streamSchedulesByUser(match, new Document("startAt", 1), 0);
+    }
+
+    /**
+     * 사용자 한 명의 일일 알림 생성 (워커 스레드에서 실행)
+     * 렌더링한 메일을 outbox 에 (userId, 날짜, 종류) 키로 등록하므로 같은 날 다시 실행해도 중복 발송되지 않는다.
+     * @return 새로 등록한 알림이 있으면 true (이메일이 없거나 모두 이미 등록되어 있으면 false)
+     */
+    private boolean sendDailyReminder(UserScheduleGroup target, LocalDateTime startOfToday) throws Exception {
+        final double HIGH_PRIORITY_THRESHOLD = 3.0; // 중요 스케줄 알림 기준 가중치
+        User user = target.user;
+
+        if (user.getEmail() == null || user.getEmail().isEmpty()) {
+            log.warn("사용자 {} ({})의 이메일 주소가 없어 알림을 건너뜁니다.", user.getId(), user.getName());
+            return false;
+        }
+        LocalDate today = startOfToday.toLocalDate();
+        boolean registered = false;
+
+        List<ScheduleListDto> userSchedules = target.schedules.stream()
+                .map(doc -> createScheduleListDto(doc, doc.getList("categories", String.class)))
+                .collect(Collectors.toList());
+
+        // 1. 중요도 높은 스케줄 알림 (오늘 또는 내일 시작/마감되는 스케줄 중)
+        List<ScheduleListDto> highPrioritySchedules = userSchedules.stream()
+                .filter(schedule -> schedule.getPriority() != null && schedule.getPriority() >= HIGH_PRIORITY_THRESHOLD)
+                .filter(schedule -> schedule.getStartDate() != null &&
+                        (schedule.getStartDate().toLocalDate().isEqual(startOfToday.toLocalDate()) || // 오늘 시작
+                         schedule.getStartDate().toLocalDate().isEqual(startOfToday.toLocalDate().plusDays(1)))) // 내일 시작
+                .collect(Collectors.toList());
+
+        // digest 모드: 모든 알림을 섹션으로 묶어 메일 한 통으로 발송
+        List<EmailTemplateRenderer.Section> digestSections = new ArrayList<>();
+
+        if (!highPrioritySchedules.isEmpty()) {
+            sortSchedulesForEmail(highPrioritySchedules, user); // 중요도 높은 순, 다음 제목 순으로 정렬
+            if (digestMode) {
+                digestSections.add(new EmailTemplateRenderer.Section("오늘/내일의 중요 스케줄", highPrioritySchedules));
+            } else {
+                String subject = String.format("Priorify: 오늘/내일의 중요 스케줄! (%s)", emailService.todayDate());
+                int representativeDaysRemaining = highPrioritySchedules.stream()
+                                                     .mapToInt(s -> (int)ChronoUnit.DAYS.between(startOfToday, s.getStartDate().truncatedTo(ChronoUnit.DAYS)))
+                                                     .min().orElse(0);
+
+                registered |= enqueueNotice(user, today, "daily-high", subject,
+                        emailService.renderScheduleNotice(highPrioritySchedules, representativeDaysRemaining));
+            }
+        }
+
+        // 2. 기존의 마감 임박 스케줄 알림 (0, 1, 3, 7일 후 시작)
+        Map<Integer, List<ScheduleListDto>> remindersByDays = userSchedules.stream()
+                .filter(schedule -> schedule.getStartDate() != null && !schedule.getStartDate().isBefore(startOfToday))
+                .collect(Collectors.groupingBy(schedule -> {
+                    long days = ChronoUnit.DAYS.between(startOfToday, schedule.getStartDate().truncatedTo(ChronoUnit.DAYS));
+                    if (days == 0) return 0; // 오늘 시작
+                    if (days == 1) return 1; // 내일 시작
+                    if (days == 3) return 3; // 3일 후 시작
+                    if (days == 7) return 7; // 7일 후 시작
+                    return -1; // 알림 대상 날짜가 아니면 -1 그룹으로 (필터링되지 않은 경우)
+                }));
+
+        // 중요도 알림에서 이미 보낸 스케줄 제외 로직 (ID 기반, HashSet 조회)
+        Set<String> highPriorityScheduleIds = highPrioritySchedules.stream().map(ScheduleListDto::getId).collect(Collectors.toSet());
+
+        for (int days : REMINDER_DAYS) {
+            List<ScheduleListDto> schedulesToSend = remindersByDays.getOrDefault(days, Collections.emptyList()).stream()
+                                 .filter(s -> !highPriorityScheduleIds.contains(s.getId()))
+                                 .collect(Collectors.toList());
+
+            if (!schedulesToSend.isEmpty()) {
+                sortSchedulesForEmail(schedulesToSend, user);
+                String when = days == 0 ? "오늘" : (days == 1 ? "내일" : days + "일 후");
+                if (digestMode) {
+                    digestSections.add(new EmailTemplateRenderer.Section(when + " 시작하는 스케줄", schedulesToSend));
+                } else {
+                    String subject = String.format("Priorify 스케줄 알림: %s 시작", when);
+                    registered |= enqueueNotice(user, today, "daily-d" + days, subject, emailService.renderScheduleNotice(schedulesToSend, days));
+                }
+            }
+        }
+
+        if (!digestSections.isEmpty()) {
+            String subject = String.format("Priorify 스케줄 알림 (%s)", emailService.todayDate());
+            registered |= enqueueNotice(user, today, "daily-digest", subject, emailService.renderDigest(digestSections));
+        }
+        return registered;
+    }
+
+    // outbox 등록 (이미 등록된 알림이면 건너뜀)
+    private boolean enqueueNotice(User user, LocalDate date, String kind, String subject, byte[] html) {
+        boolean enqueued = notificationOutboxService.enqueue(user.getId(), date, kind, user.getEmail(), subject, html);
+        if (enqueued) {
+            log.debug("사용자 {} ({})의 {} 알림 등록", user.getId(), user.getName(), kind);
+        } else {
+            log.debug("사용자 {} ({})의 {} 알림은 이미 등록되어 있어 건너뜁니다.", user.getId(), user.getName(), kind);
+        }
+        return enqueued;
+    }
 
     /**
      * 알림 이메일 발송을 위한 스케줄 목록 정렬 로직
@@ -686,205 +629,181 @@ public class ScheduleService {
     }
 
     /**
-     * 상위 우선순위 스케줄 알림 발송 (배치 처리)
-     * getCategoryScheduleAggregation과 동일한 가중치 알고리즘 사용
+     * 상위 우선순위 스케줄 알림 발송
+     * 사용자별 집계 대신 schedules 전체를 한 번 스트리밍 (사용자별 priorityScore 상위 TOP_PRIORITY_LIMIT 개)
      */
     @Scheduled(cron = "0 0 9 * * ?") // 매일 오전 9시에 실행
     public void sendTopPriorityScheduleReminders() {
         log.info("상위 우선순위 스케줄 알림 배치 작업 시작 at {}", LocalDateTime.now());
 
-        long totalUsers = getTotalUserCount();
-        log.info("처리 대상 총 사용자 수: {}", totalUsers);
-        
-        if (totalUsers == 0) {
-            log.info("처리할 사용자가 없습니다.");
-            return;
+        try (MongoCursor<Document> cursor = streamTopPrioritySchedules(TOP_PRIORITY_LIMIT)) {
+            Iterator<UserScheduleGroup> targets = joinWithUsers(cursor, new UserCursor(mongoTemplate, USER_PAGE_SIZE));
+            ReminderJobExecutor.Result result = reminderJobExecutor.run("top-priority-reminder", targets,
+                    this::sendTopPriorityReminder);
+            log.info("상위 우선순위 스케줄 알림 배치 작업 완료 (outbox 등록, 발송 결과는 outbox 발송 로그 참고) - 신규 등록: {}, 건너뜀: {}, 실패: {}, 대상 사용자: {}",
+                    result.getRegisteredCount(), result.getSkippedCount(), result.getFailureCount(), result.getTotalCount());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("상위 우선순위 스케줄 알림 작업 중 인터럽트 발생: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("상위 우선순위 스케줄 스트리밍 중 치명적 오류 발생: {}", e.getMessage());
         }
+    }
 
-        int totalBatches = (int) Math.ceil((double) totalUsers / BATCH_SIZE);
-        int totalSuccessCount = 0;
-        int totalFailureCount = 0;
+    private boolean sendTopPriorityReminder(UserScheduleGroup target) throws Exception {
+        User user = target.user;
+        ObjectId userId = user.getId();
+        String email = user.getEmail();
+        String name = user.getName();
 
-        for (int batchNumber = 0; batchNumber < totalBatches; batchNumber++) {
-            try {
-                Page<User> userPage = getUsersInBatch(batchNumber, BATCH_SIZE);
-                List<User> users = userPage.getContent();
-                
-                if (users.isEmpty()) {
-                    log.info("배치 {}에 사용자가 없습니다. 배치 처리 종료.", batchNumber + 1);
-                    break;
-                }
+        if (email == null || email.isEmpty()) {
+            log.warn("사용자 {} ({})의 이메일 주소가 없어 상위 우선순위 알림을 건너뜁니다.", userId, name);
+            return false;
+        }
 
-                int batchSuccessCount = 0;
-                int batchFailureCount = 0;
-
-                log.info("배치 {}/{} 처리 시작 (사용자 {}명)", batchNumber + 1, totalBatches, users.size());
-
-                for (User user : users) {
-                    try {
-                        if (user.getEmail() == null || user.getEmail().isEmpty()) {
-                            log.warn("사용자 {} ({})의 이메일 주소가 없어 상위 우선순위 알림을 건너뜁니다.", user.getId(), user.getName());
-                            batchFailureCount++;
-                            continue;
-                        }
-
-                        // 사용자의 상위 2개 우선순위 스케줄 조회
-                        List<ScheduleListDto> topPrioritySchedules = getTopPrioritySchedulesWithWeights(user.getId().toString(), user, 2);
-                        
-                        if (!topPrioritySchedules.isEmpty()) {
-                            emailService.sendTopPriorityScheduleNotice(user.getEmail(), user.getName(), topPrioritySchedules);
-                            log.debug("사용자 {} ({})에게 상위 우선순위 스케줄 알림 이메일 발송 완료 (스케줄 {}개)", 
-                                    user.getId(), user.getName(), topPrioritySchedules.size());
-                            batchSuccessCount++;
-                        } else {
-                            log.debug("사용자 {} ({})에게 발송할 상위 우선순위 스케줄이 없습니다.", user.getId(), user.getName());
-                            batchSuccessCount++; // 성공으로 카운트 (스케줄이 없는 것은 정상 상황)
-                        }
-                    } catch (MessagingException e) {
-                        log.error("사용자 {} ({})에게 상위 우선순위 스케줄 알림 이메일 발송 실패: {}", user.getId(), user.getName(), e.getMessage());
-                        batchFailureCount++;
-                    } catch (Exception e) {
-                        log.error("사용자 {} ({})에게 상위 우선순위 스케줄 알림 중 예상치 못한 오류 발생: {}", user.getId(), user.getName(), e.getMessage());
-                        batchFailureCount++;
-                    }
-                }
+        List<ScheduleListDto> topPrioritySchedules = target.schedules.stream()
+                .map(doc -> createScheduleListDto(doc, doc.getList("categories", String.class)))
+                .collect(Collectors.toList());
 
-                totalSuccessCount += batchSuccessCount;
-                totalFailureCount += batchFailureCount;
-                
-                logBatchStatistics(batchNumber + 1, users.size(), batchSuccessCount, batchFailureCount, totalUsers);
+        return enqueueNotice(user, LocalDate.now(), "top-priority", EmailService.TOP_PRIORITY_SUBJECT,
+                emailService.renderTopPriorityNotice(name, topPrioritySchedules));
+    }
+
+    // 알림 대상 (사용자 + 해당 사용자의 스케줄 문서)
+    private static final class UserScheduleGroup {
+        private final User user;
+        private final List<Document> schedules;
 
-                // 마지막 배치가 아니면 지연 시간 추가
-                if (batchNumber < totalBatches - 1) {
-                    waitBetweenBatches();
+        private UserScheduleGroup(User user, List<Document> schedules) {
+            this.user = user;
+            this.schedules = schedules;
+        }
+    }
+
+    /**
+     * userId 오름차순 스케줄 그룹 스트림과 _id 오름차순 사용자 커서를 병합 조인
+     * 두 스트림 모두 한 번씩만 읽으므로 사용자별 조회($lookup)가 필요 없다.
+     */
+    private Iterator<UserScheduleGroup> joinWithUsers(Iterator<Document> groups, Iterator<User> users) {
+        return new Iterator<UserScheduleGroup>() {
+            private UserScheduleGroup next;
+            private User user;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && groups.hasNext()) {
+                    Document group = groups.next();
+                    ObjectId userId = group.getObjectId("_id");
+                    while ((user == null || user.getId().compareTo(userId) < 0) && users.hasNext()) {
+                        user = users.next();
+                    }
+                    if (user != null && user.getId().equals(userId)) {
+                        next = new UserScheduleGroup(user, group.getList("schedules", Document.class));
+                    }
                 }
+                return next != null;
+            }
 
-            } catch (Exception e) {
-                log.error("배치 {} 처리 중 치명적 오류 발생: {}", batchNumber + 1, e.getMessage());
-                totalFailureCount += BATCH_SIZE; // 배치 전체를 실패로 처리
+            @Override
+            public UserScheduleGroup next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                UserScheduleGroup result = next;
+                next = null;
+                return result;
             }
-        }
-        
-        log.info("상위 우선순위 스케줄 알림 배치 작업 완료 - 총 성공: {}, 총 실패: {}, 총 사용자: {}", 
-                totalSuccessCount, totalFailureCount, totalUsers);
+        };
     }
 
     /**
-     * getCategoryScheduleAggregation과 동일한 알고리즘으로 상위 우선순위 스케줄 조회
+     * 7일 이내 스케줄 중 사용자별 priorityScore 상위 limit 개를 userId 순으로 스트리밍
+     * 결과: { _id: userId, schedules: [...] }
      */
-    public List<ScheduleListDto> getTopPrioritySchedulesWithWeights(String userId, User user, int limit) {
-        // MongoDB Aggregation Pipeline - getCategoryScheduleAggregation과 동일한 가중치 계산 로직
-        List<Document> pipeline = Arrays.asList(
-            // Stage 1: 사용자의 활성 스케줄 필터링 (오늘부터 7일 이내)
-            new Document("$match", new Document()
-                .append("$and", Arrays.asList(
-                    new Document("startAt", new Document("$gte", LocalDateTime.now())),
-                    new Document("startAt", new Document("$lte", LocalDateTime.now().plusDays(7))),
-                    new Document("userId", new ObjectId(userId)),
-                    new Document("$or", Arrays.asList(
-                        new Document("status", "active"),
-                        new Document("status", "completed")
-                    ))
-                ))),
-            
-            // Stage 2: 원본 카테고리 보존 및 카테고리 unwind
-            new Document("$addFields", new Document()
-                .append("originalCategories", "$categories")),
-            new Document("$unwind", new Document()
-                .append("path", "$categories")
-                .append("preserveNullAndEmptyArrays", true)),
-            
-            // Stage 3: 긴급도 및 카테고리 가중치 계산 (getCategoryScheduleAggregation과 동일)
-            new Document("$addFields", new Document()
-                .append("urgencyScore", createUrgencyScoreExpression())
-                .append("categoryWeight", createCategoryWeightExpression(user))),
-            
-            // Stage 4: 최종 우선순위 계산
-            new Document("$addFields", new Document()
-                .append("priority", new Document("$multiply", Arrays.asList("$urgencyScore", "$categoryWeight")))),
-            
-            // Stage 5: 카테고리별로 그룹화하여 최고 우선순위만 유지 (중복 제거)
-            new Document("$group", new Document()
-                .append("_id", "$_id")
-                .append("title", new Document("$first", "$title"))
-                .append("startAt", new Document("$first", "$startAt"))
-                .append("endAt", new Document("$first", "$endAt"))
-                .append("status", new Document("$first", "$status"))
-                .append("originalCategories", new Document("$first", "$originalCategories"))
-                .append("maxPriority", new Document("$max", "$priority"))),
-            
-            // Stage 6: 우선순위 높은 순으로 정렬
-            new Document("$sort", new Document("maxPriority", -1)),
-            
-            // Stage 7: 상위 limit개만 선택
-            new Document("$limit", limit),
-            
-            // Stage 8: 필요한 필드만 투영
-            new Document("$project", new Document()
+    private MongoCursor<Document> streamTopPrioritySchedules(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        Document match = new Document()
+                .append("startAt", new Document("$gte", now).append("$lte", now.plusDays(7)))
+                .append("status", new Document("$in", Arrays.asList("active", "completed")));
+        return streamSchedulesByUser(match, new Document("priorityScore", -1), limit);
+    }
+
+    /**
+     * match 조건의 스케줄을 사용자별로 묶어 userId 오름차순으로 스트리밍 (사용자별 스케줄은 sort 순서)
+     * limitPerUser > 0 이면 $topN 으로 사용자별 상위 limitPerUser 개만 유지하며 묶는다.
+     * (전체 정렬 후 모든 스케줄을 배열에 담지 않으므로 메모리는 사용자 수 x limitPerUser 에 비례, MongoDB 5.2 이상)
+     */
+    private MongoCursor<Document> streamSchedulesByUser(Document match, Document sort, int limitPerUser) {
+        Document scheduleFields = new Document()
                 .append("_id", new Document("$toString", "$_id"))
                 .append("title", "$title")
                 .append("startAt", "$startAt")
                 .append("endAt", "$endAt")
                 .append("status", "$status")
-                .append("originalCategories", "$originalCategories")
-                .append("priority", "$maxPriority"))
-        );
+                .append("categories", "$categories")
+                .append("priority", "$priorityScore");
+
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", match));
+        if (limitPerUser > 0) {
+            pipeline.add(new Document("$group", new Document()
+                .append("_id", "$userId")
+                .append("schedules", new Document("$topN", new Document()
+                    .append("n", limitPerUser)
+                    .append("sortBy", sort)
+                    .append("output", scheduleFields)))));
+        } else {
+            Document userSort = new Document("userId", 1);
+            userSort.putAll(sort);
+            pipeline.add(new Document("$sort", userSort));
+            pipeline.add(new Document("$group", new Document()
+                .append("_id", "$userId")
+                .append("schedules", new Document("$push", scheduleFields))));
+        }
+        pipeline.add(new Document("$sort", new Document("_id", 1)));
 
-        List<Document> results = new ArrayList<>();
-        mongoTemplate.getCollection("schedules")
+        return mongoTemplate.getCollection("schedules")
                 .aggregate(pipeline, Document.class)
-                .into(results);
-        
-        return results.stream()
-                .map(doc -> {
-                    List<String> categories = doc.getList("originalCategories", String.class);
-                    return createScheduleListDto(doc, categories);
-                })
-                .collect(Collectors.toList());
+                .allowDiskUse(true)
+                .batchSize(USER_PAGE_SIZE)
+                .cursor();
     }
 
     /**
-     * 배치 처리를 위한 헬퍼 메서드들
-     */
-    
-    /**
-     * 전체 사용자 수 조회
-     */
-    private long getTotalUserCount() {
-        return userService.count();
-    }
-    
-    /**
-     * 페이지네이션으로 사용자 조회
+     * 상위 우선순위 스케줄 조회 (오늘부터 7일 이내)
+     * 사전 계산된 priorityScore(= 카테고리 중 최대 가중치 x 긴급도)로 정렬하므로
+     * getCategoryScheduleAggregation 의 카테고리별 최대 중요도와 같은 순서 (user_priority 인덱스 사용)
      */
-    private Page<User> getUsersInBatch(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return userService.findAll(pageable);
-    }
-    
-    /**
-     * 배치 처리 간 지연
-     */
-    private void waitBetweenBatches() {
-        try {
-            Thread.sleep(BATCH_DELAY_MS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("배치 처리 지연 중 인터럽트 발생: {}", e.getMessage());
-        }
+    public List<ScheduleListDto> getTopPrioritySchedulesWithWeights(String userId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(Criteria.where("userId").is(new ObjectId(userId))
+                .and("startAt").gte(now).lte(now.plusDays(7))
+                .and("status").in("active", "completed"))
+                .with(Sort.by(Sort.Direction.DESC, "priorityScore"))
+                .limit(limit);
+        query.fields()
+                .include("title")
+                .include("startAt")
+                .include("endAt")
+                .include("status")
+                .include("categories")
+                .include("priorityScore");
+
+        return mongoTemplate.find(query, Schedule.class).stream()
+                .map(this::toScheduleListDto)
+                .collect(Collectors.toList());
     }
-    
-    /**
-     * 배치별 통계 정보
-     */
-    private void logBatchStatistics(int batchNumber, int batchSize, int successCount, int failureCount, long totalUsers) {
-        log.info("배치 {}/{} 처리 완료 - 성공: {}, 실패: {}, 배치 크기: {}", 
-                batchNumber, 
-                (int) Math.ceil((double) totalUsers / BATCH_SIZE), 
-                successCount, 
-                failureCount, 
-                batchSize);
+
+    private ScheduleListDto toScheduleListDto(Schedule schedule) {
+        List<String> categories = schedule.getCategories();
+        return ScheduleListDto.builder()
+                .id(schedule.getId())
+                .title(schedule.getTitle())
+                .startDate(schedule.getStartAt())
+                .endDate(schedule.getEndAt())
+                .categories(new ArrayList<>(categories != null && !categories.isEmpty() ? categories : List.of("기타2")))
+                .priority(schedule.getPriorityScore())
+                .status(schedule.getStatus())
+                .build();
     }
 }
-
-
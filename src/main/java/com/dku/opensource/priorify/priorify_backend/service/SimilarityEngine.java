@@ -0,0 +1,25 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스케줄 임베딩 유사도 검색 엔진
+ * 구현체: InMemoryVectorIndex (JVM 내 코사인 top-k), AtlasVectorSearchEngine (Atlas $vectorSearch)
+ */
+public interface SimilarityEngine {
+
+    // Atlas vectorSearchScore(cosine) 스케일 기준 임계값: (1 + cos) / 2
+    double SIMILARITY_THRESHOLD = 0.6;
+
+    /**
+     * 각 스케줄과 유사한 같은 사용자의 active 스케줄 ID 목록 (유사도 내림차순, 최대 limit 개)
+     */
+    Map<String, List<String>> findSimilarScheduleIds(String userId, Collection<String> scheduleIds, int limit);
+
+    /**
+     * 사용자의 스케줄이 변경되었을 때 캐시된 벡터 무효화
+     */
+    void invalidate(String userId);
+}
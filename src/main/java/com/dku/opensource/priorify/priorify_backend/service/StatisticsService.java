@@ -18,31 +18,29 @@ import org.springframework.stereotype.Service;
 
 import com.dku.opensource.priorify.priorify_backend.model.Schedule;
 import com.dku.opensource.priorify.priorify_backend.model.User;
+import com.dku.opensource.priorify.priorify_backend.security.RequestUserContext;
 
 @Service
 public class StatisticsService {
 
     private final ScheduleService scheduleService;
     private final MongoTemplate mongoTemplate;
-    private final UserService userService;
-    
-    // ScheduleService와 동일한 상수 사용
-    // private static final double URGENCY_COEFFICIENT_A = 0.02;
-    // private static final double URGENCY_COEFFICIENT_B = 0.1;
-    private static final double HIGH_PRIORITY_WEIGHT = 2.5;
-    private static final double LOW_PRIORITY_WEIGHT = 0.5;
+    private final PriorityScorer priorityScorer;
+    private final RequestUserContext requestUserContext;
 
-    public StatisticsService(ScheduleService scheduleService, MongoTemplate mongoTemplate, UserService userService) {
+    public StatisticsService(ScheduleService scheduleService, MongoTemplate mongoTemplate,
+                             PriorityScorer priorityScorer, RequestUserContext requestUserContext) {
         this.scheduleService = scheduleService;
         this.mongoTemplate = mongoTemplate;
-        this.userService = userService;
+        this.priorityScorer = priorityScorer;
+        this.requestUserContext = requestUserContext;
     }
 
     /**
      * 통합 통계 데이터 반환 - 통계 페이지에 필요한 모든 데이터
      */
     public Map<String, Object> getComprehensiveStatistics(String userId, int days) {
-        User user = userService.findById(new ObjectId(userId))
+        User user = requestUserContext.findById(new ObjectId(userId))
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
         
         LocalDateTime endDate = LocalDateTime.now();
@@ -83,8 +81,8 @@ public class StatisticsService {
                 .append("path", "$categories")
                 .append("preserveNullAndEmptyArrays", true)),
             new Document("$addFields", new Document()
-                .append("urgencyScore", createSimplePriorityExpression())
-                .append("categoryWeight", createCategoryWeightExpression(user))),
+                .append("urgencyScore", priorityScorer.urgencyExpression())
+                .append("categoryWeight", priorityScorer.categoryWeightExpression(user))),
             new Document("$addFields", new Document()
                 .append("priority", new Document("$multiply", Arrays.asList("$urgencyScore", "$categoryWeight")))),
             new Document("$group", new Document()
@@ -217,8 +215,8 @@ public class StatisticsService {
             new Document("$addFields", new Document()
                 .append("hour", new Document("$hour", "$startAt"))
                 .append("dayOfWeek", new Document("$dayOfWeek", "$startAt"))
-                .append("urgencyScore", createUrgencyScoreExpression())
-                .append("categoryWeight", createCategoryWeightExpression(user))),
+                .append("urgencyScore", priorityScorer.urgencyExpression())
+                .append("categoryWeight", priorityScorer.categoryWeightExpression(user))),
             
             new Document("$addFields", new Document()
                 .append("priority", new Document("$multiply", Arrays.asList("$urgencyScore", "$categoryWeight")))),
@@ -304,7 +302,7 @@ public class StatisticsService {
                     Map<String, Object> priorityMap = new HashMap<>();
                     priorityMap.put("category", cp.getCategory());
                     priorityMap.put("rank", cp.getRank());
-                    priorityMap.put("weight", HIGH_PRIORITY_WEIGHT + (4 - cp.getRank()) * 0.5);
+                    priorityMap.put("weight", priorityScorer.highPriorityWeight(cp.getRank()));
                     return priorityMap;
                 })
                 .collect(Collectors.toList());
@@ -314,116 +312,18 @@ public class StatisticsService {
                     Map<String, Object> priorityMap = new HashMap<>();
                     priorityMap.put("category", cp.getCategory());
                     priorityMap.put("rank", cp.getRank());
-                    priorityMap.put("weight", LOW_PRIORITY_WEIGHT - (cp.getRank() - 1) * 0.1);
+                    priorityMap.put("weight", priorityScorer.lowPriorityWeight(cp.getRank()));
                     return priorityMap;
                 })
                 .collect(Collectors.toList());
         
         settings.put("highPriorities", highPriorities);
         settings.put("lowPriorities", lowPriorities);
-        settings.put("defaultWeight", 1.0);
+        settings.put("defaultWeight", PriorityScorer.DEFAULT_WEIGHT);
         
         return settings;
     }
 
-    // 시간 기반 우선순위 계산
-    private Document createUrgencyScoreExpression() {
-        return new Document("$let", new Document()
-            .append("vars", new Document()
-                .append("hoursRemaining", new Document("$divide", Arrays.asList(
-                    new Document("$subtract", Arrays.asList("$endAt", "$$NOW")),
-                    3600000)))) // 밀리초를 시간으로 변환
-            .append("in", new Document("$switch", new Document()
-                .append("branches", Arrays.asList(
-                    // 과거 일정 (이미 지남): 낮은 점수
-                    new Document()
-                        .append("case", new Document("$lt", Arrays.asList("$$hoursRemaining", 0)))
-                        .append("then", 0.5),
-                    
-                    // 임박한 일정 (24시간 이내): 높은 점수
-                    new Document()
-                        .append("case", new Document("$lte", Arrays.asList("$$hoursRemaining", 24)))
-                        .append("then", 3.0),
-                    
-                    // 가까운 일정 (1주일 이내): 중상 점수
-                    new Document()
-                        .append("case", new Document("$lte", Arrays.asList("$$hoursRemaining", 168))) // 7일 = 168시간
-                        .append("then", 2.0),
-                    
-                    // 보통 일정 (1달 이내): 중간 점수
-                    new Document()
-                        .append("case", new Document("$lte", Arrays.asList("$$hoursRemaining", 720))) // 30일 = 720시간
-                        .append("then", 1.5),
-                    
-                    // 먼 미래 일정: 기본 점수
-                    new Document()
-                        .append("case", new Document("$gt", Arrays.asList("$$hoursRemaining", 720)))
-                        .append("then", 1.0)
-                ))
-                .append("default", 1.0) // 기본값
-            )));
-    }
-
-    // 가중치 계산 함수
-    private Document createCategoryWeightExpression(User user) {
-        Map<String, Integer> highPriorityRanks = user.getHighPriorities() != null ?
-                user.getHighPriorities().stream()
-                        .collect(Collectors.toMap(
-                            cp -> cp.getCategory(),
-                            cp -> cp.getRank(),
-                            (existing, replacement) -> existing)) : new HashMap<>();
-                            
-        Map<String, Integer> lowPriorityRanks = user.getLowPriorities() != null ?
-                user.getLowPriorities().stream()
-                        .collect(Collectors.toMap(
-                            cp -> cp.getCategory(),
-                            cp -> cp.getRank(),
-                            (existing, replacement) -> existing)) : new HashMap<>();
-        
-        List<Document> switchBranches = new ArrayList<>();
-        
-        // High Priority 카테고리들
-        for (Map.Entry<String, Integer> entry : highPriorityRanks.entrySet()) {
-            String category = entry.getKey();
-            Integer rank = entry.getValue();
-            double weight = HIGH_PRIORITY_WEIGHT + (4 - rank) * 0.5;
-            
-            switchBranches.add(new Document()
-                .append("case", new Document("$eq", Arrays.asList("$categories", category)))
-                .append("then", weight));
-        }
-        
-        // Low Priority 카테고리들
-        for (Map.Entry<String, Integer> entry : lowPriorityRanks.entrySet()) {
-            String category = entry.getKey();
-            Integer rank = entry.getValue();
-            double weight = LOW_PRIORITY_WEIGHT - (rank - 1) * 0.1;
-            
-            switchBranches.add(new Document()
-                .append("case", new Document("$eq", Arrays.asList("$categories", category)))
-                .append("then", weight));
-        }
-        
-        return new Document("$switch", new Document()
-            .append("branches", switchBranches)
-            .append("default", 1.0));
-    }
-
-
-    private Document createSimplePriorityExpression() {
-        return new Document("$let", new Document()
-            .append("vars", new Document()
-                .append("hoursRemaining", new Document("$divide", Arrays.asList(
-                    new Document("$subtract", Arrays.asList("$endAt", "$$NOW")),
-                    3600000))))
-            .append("in", new Document("$cond", Arrays.asList(
-                new Document("$lt", Arrays.asList("$$hoursRemaining", 0)),
-                0.8,
-                1.0
-            ))));
-    }
-
-
     // 기존 메서드 유지
     public List<Document> getUserStatistics(String userId, int days) {
         List<Document> pipeline = List.of(
@@ -0,0 +1,70 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.model.User;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * _id 오름차순 keyset 페이지로 사용자를 순회하는 커서
+ * skip 을 쓰지 않으므로 페이지가 뒤로 갈수록 느려지지 않고,
+ * 순회 중 사용자가 추가/삭제되어도 이미 지나간 사용자를 다시 읽거나 건너뛰지 않는다.
+ * 알림 작업에 필요한 필드(_id, email, name, 우선순위)만 읽는다.
+ */
+public class UserCursor implements Iterator<User> {
+
+    private final MongoTemplate mongoTemplate;
+    private final int pageSize;
+    private Iterator<User> current = Collections.emptyIterator();
+    private ObjectId lastId;
+    private boolean exhausted;
+
+    public UserCursor(MongoTemplate mongoTemplate, int pageSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!current.hasNext() && !exhausted) {
+            List<User> page = fetchNextPage();
+            exhausted = page.size() < pageSize;
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getId();
+            }
+            current = page.iterator();
+        }
+        return current.hasNext();
+    }
+
+    @Override
+    public User next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private List<User> fetchNextPage() {
+        Query query = new Query();
+        if (lastId != null) {
+            query.addCriteria(Criteria.where("_id").gt(lastId));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(pageSize);
+        query.fields()
+                .include("email")
+                .include("name")
+                .include("highPriorities")
+                .include("lowPriorities")
+                .include("priorityVersion");
+        return mongoTemplate.find(query, User.class);
+    }
+}
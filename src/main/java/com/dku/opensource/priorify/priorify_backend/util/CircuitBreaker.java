@@ -0,0 +1,85 @@
+package com.dku.opensource.priorify.priorify_backend.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연속 실패 기반 서킷 브레이커
+ * - CLOSED: 정상 호출, failureThreshold 번 연속 실패하면 OPEN
+ * - OPEN: openMillis 동안 호출하지 않고 바로 실패 처리
+ * - HALF_OPEN: OPEN 시간이 지나면 시험 호출 하나만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ *   (시험 호출 중 다른 호출자는 awaitTrial 로 결과를 기다린 뒤 다시 tryAcquire)
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        if (failureThreshold <= 0 || openMillis <= 0) {
+            throw new IllegalArgumentException("failureThreshold, openMillis 는 0보다 커야 합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    }
+
+    // 호출 가능 여부 (true 를 받은 호출자는 onSuccess / onFailure 중 하나를 반드시 호출)
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+        notifyAll();
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+        notifyAll();
+    }
+
+    // HALF_OPEN 시험 호출이 진행 중이면 결과가 나올 때까지 최대 timeoutMillis 대기
+    public synchronized void awaitTrial(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long remaining;
+        while (state == State.HALF_OPEN && trialInFlight && (remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+    }
+
+    // OPEN 시간이 지났으면 시험 호출이 가능하므로 닫힌 것으로 본다
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && System.nanoTime() - openedAtNanos < openNanos;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
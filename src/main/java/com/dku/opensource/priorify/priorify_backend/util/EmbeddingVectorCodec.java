@@ -0,0 +1,69 @@
+package com.dku.opensource.priorify.priorify_backend.util;
+
+import org.bson.types.Binary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * 임베딩 벡터 <-> BSON Binary 변환
+ * 형식: subtype 9 (vector), 헤더 [dtype=0x27(float32), padding=0] + little-endian float32
+ * Atlas Vector Search 가 그대로 인덱싱할 수 있는 형식이다.
+ */
+public final class EmbeddingVectorCodec {
+
+    public static final byte VECTOR_SUBTYPE = 9;
+    private static final byte FLOAT32_DTYPE = 0x27;
+    private static final int HEADER_SIZE = 2;
+
+    private EmbeddingVectorCodec() {
+    }
+
+    public static Binary encode(float[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + values.length * Float.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(FLOAT32_DTYPE);
+        buffer.put((byte) 0);
+        for (float value : values) {
+            buffer.putFloat(value);
+        }
+        return new Binary(VECTOR_SUBTYPE, buffer.array());
+    }
+
+    /**
+     * 저장된 embedding 필드 값을 float[] 로 변환
+     * 신규 Binary 형식과 마이그레이션 전 숫자 배열 형식을 모두 지원 (지원하지 않는 값이면 null)
+     */
+    public static float[] decode(Object stored) {
+        if (stored instanceof Binary) {
+            return decodeBinary((Binary) stored);
+        }
+        if (stored instanceof List) {
+            List<?> list = (List<?>) stored;
+            float[] values = new float[list.size()];
+            for (int i = 0; i < values.length; i++) {
+                Object value = list.get(i);
+                if (!(value instanceof Number)) {
+                    return null;
+                }
+                values[i] = ((Number) value).floatValue();
+            }
+            return values;
+        }
+        return null;
+    }
+
+    private static float[] decodeBinary(Binary binary) {
+        byte[] data = binary.getData();
+        if (binary.getType() != VECTOR_SUBTYPE || data.length < HEADER_SIZE || data[0] != FLOAT32_DTYPE
+                || (data.length - HEADER_SIZE) % Float.BYTES != 0) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, HEADER_SIZE, data.length - HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        float[] values = new float[(data.length - HEADER_SIZE) / Float.BYTES];
+        buffer.asFloatBuffer().get(values);
+        return values;
+    }
+}
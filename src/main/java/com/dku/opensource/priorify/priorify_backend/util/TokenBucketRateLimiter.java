@@ -0,0 +1,46 @@
+package com.dku.opensource.priorify.priorify_backend.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 방식 처리율 제한기
+ * 초당 permitsPerSecond 개씩 토큰이 채워지고 최대 burst 개까지 모아둘 수 있다.
+ * acquire() 는 토큰이 생길 때까지 필요한 만큼만 대기한다.
+ */
+public final class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double maxPermits;
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond, burst 는 0보다 커야 합니다.");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.maxPermits = burst;
+        this.storedPermits = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 토큰 1개를 예약하고 사용 가능해질 때까지 남은 시간(ns) 반환
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        storedPermits = Math.min(maxPermits, storedPermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        storedPermits -= 1;
+        if (storedPermits >= 0) {
+            return 0;
+        }
+        return (long) (-storedPermits / permitsPerNano);
+    }
+}
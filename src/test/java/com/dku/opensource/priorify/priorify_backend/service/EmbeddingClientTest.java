@@ -0,0 +1,219 @@
+package com.dku.opensource.priorify.priorify_backend.service;
+
+import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingRequest;
+import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingResponse;
+import com.dku.opensource.priorify.priorify_backend.dto.EmbeddingResult;
+import com.dku.opensource.priorify.priorify_backend.model.EmbeddingCacheEntry;
+import com.dku.opensource.priorify.priorify_backend.util.CircuitBreaker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EmbeddingClientTest {
+
+    private static final String URL = "http://embedding.test/embed";
+
+    /**
+     * 요청받은 배치 크기를 기록하고, 각 제목 뒤의 숫자를 임베딩 첫 값으로 돌려주는 임베딩 서버
+     */
+    private static class FakeEmbeddingServer extends RestTemplate {
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> requestedTexts = Collections.synchronizedList(new ArrayList<>());
+        private volatile int failuresLeft;
+        private volatile boolean randomDelay;
+        private volatile long delayMillis;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T postForObject(String url, Object request, Class<T> responseType, Object... uriVariables) {
+            List<String> texts = ((HttpEntity<EmbeddingRequest>) request).getBody().getTexts();
+            batchSizes.add(texts.size());
+            requestedTexts.addAll(texts);
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new ResourceAccessException("embedding server down");
+            }
+            if (randomDelay || delayMillis > 0) {
+                try {
+                    Thread.sleep(randomDelay ? ThreadLocalRandom.current().nextInt(20) : delayMillis); // 배치 완료 순서를 섞음
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            List<EmbeddingResult> results = texts.stream()
+                    .map(text -> EmbeddingResult.builder()
+                            .originalText(text)
+                            .embedding(Arrays.asList(numberOf(text), 1.0))
+                            .categories(Collections.singletonList("학교"))
+                            .build())
+                    .collect(Collectors.toList());
+            return (T) EmbeddingResponse.builder().results(results).build();
+        }
+    }
+
+    private static double numberOf(String text) {
+        return Double.parseDouble(text.substring(text.lastIndexOf(' ') + 1));
+    }
+
+    // Mongo 저장소 없이 메모리에서만 동작하는 캐시
+    private static EmbeddingCache memoryCache() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(EmbeddingCacheEntry.class)))
+                .thenReturn(mock(BulkOperations.class));
+        return new EmbeddingCache(mongoTemplate, "test", 1 << 20);
+    }
+
+    private static EmbeddingClient client(FakeEmbeddingServer server, int maxConcurrency,
+                                          int minBatchSize, int maxBatchSize, int initialBatchSize) {
+        return new EmbeddingClient(server, memoryCache(), new CircuitBreaker(100, 60_000), URL,
+                maxConcurrency, minBatchSize, maxBatchSize, initialBatchSize, 10_000);
+    }
+
+    private static List<String> titles(int from, int to) {
+        List<String> titles = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            titles.add("title " + i);
+        }
+        return titles;
+    }
+
+    @Test
+    @DisplayName("배치를 동시에 요청해도 결과는 입력 순서대로 반환한다")
+    void preservesInputOrder() throws InterruptedException {
+        FakeEmbeddingServer server = new FakeEmbeddingServer();
+        server.randomDelay = true;
+        EmbeddingClient client = client(server, 4, 3, 3, 3);
+        List<String> texts = titles(0, 40);
+
+        try {
+            List<EmbeddingResult> results = client.embed(texts);
+
+            assertEquals(texts.size(), results.size());
+            for (int i = 0; i < texts.size(); i++) {
+                assertEquals(texts.get(i), results.get(i).getOriginalText());
+                assertEquals((double) i, results.get(i).getEmbedding().get(0));
+            }
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("정규화하면 같은 제목은 처음 나온 원래 제목으로 한 번만 요청하고, 이미 임베딩한 제목은 다시 요청하지 않는다")
+    void requestsEachNormalizedTitleOnce() throws InterruptedException {
+        FakeEmbeddingServer server = new FakeEmbeddingServer();
+        EmbeddingClient client = client(server, 1, 1, 64, 64);
+
+        try {
+            List<EmbeddingResult> results = client.embed(Arrays.asList("Title 1", "  title   1 ", "title 2"));
+            assertEquals(Collections.singletonList(2), server.batchSizes);
+            assertEquals(Arrays.asList("Title 1", "title 2"), server.requestedTexts);
+            assertEquals(1.0, results.get(0).getEmbedding().get(0));
+            assertEquals(1.0, results.get(1).getEmbedding().get(0));
+            assertEquals("  title   1 ", results.get(1).getOriginalText());
+
+            client.embed(Collections.singletonList("TITLE 2"));
+            assertEquals(1, server.batchSizes.size());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("목표 지연 안에 끝난 배치마다 배치 크기를 1씩 늘린다")
+    void increasesBatchSizeAdditively() throws InterruptedException {
+        FakeEmbeddingServer server = new FakeEmbeddingServer();
+        EmbeddingClient client = client(server, 1, 1, 5, 2);
+
+        try {
+            client.embed(titles(0, 20));
+            assertEquals(Arrays.asList(2, 3, 4, 5, 5, 1), server.batchSizes);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("요청이 실패하면 배치 크기를 절반으로 줄이고 실패한 자리는 null 로 채운다")
+    void halvesBatchSizeOnFailure() throws InterruptedException {
+        FakeEmbeddingServer server = new FakeEmbeddingServer();
+        EmbeddingClient client = client(server, 1, 1, 64, 8);
+
+        try {
+            server.failuresLeft = 1;
+            List<EmbeddingResult> failed = client.embed(titles(0, 8));
+            assertEquals(8, failed.size());
+            assertTrue(failed.stream().allMatch(result -> result == null));
+
+            client.embed(titles(8, 16));
+            assertEquals(Arrays.asList(8, 4, 4), server.batchSizes);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 요청하지 않고 null 로 채운다")
+    void skipsRequestsWhileCircuitOpen() throws InterruptedException {
+        FakeEmbeddingServer server = new FakeEmbeddingServer();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 60_000);
+        EmbeddingClient client = new EmbeddingClient(server, memoryCache(), circuitBreaker, URL,
+                1, 1, 64, 4, 10_000);
+
+        try {
+            server.failuresLeft = 1;
+            client.embed(titles(0, 4));
+            assertFalse(client.isAvailable());
+
+            List<EmbeddingResult> results = client.embed(titles(4, 8));
+            assertEquals(4, results.size());
+            assertTrue(results.stream().allMatch(result -> result == null));
+            assertEquals(1, server.batchSizes.size());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 요청이 성공하면 남은 배치도 이어서 요청한다")
+    void continuesAfterSuccessfulTrial() throws InterruptedException {
+        FakeEmbeddingServer server = new FakeEmbeddingServer();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 50);
+        EmbeddingClient client = new EmbeddingClient(server, memoryCache(), circuitBreaker, URL,
+                4, 2, 2, 2, 10_000);
+
+        try {
+            server.failuresLeft = 1;
+            client.embed(titles(0, 2));
+            assertFalse(client.isAvailable());
+            Thread.sleep(100);
+
+            server.delayMillis = 30; // 다음 배치를 요청할 때 시험 요청이 아직 진행 중이도록
+            List<EmbeddingResult> results = client.embed(titles(2, 10));
+
+            assertTrue(results.stream().allMatch(result -> result != null));
+            assertEquals(Arrays.asList(2, 2, 2, 2, 2), server.batchSizes);
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.dku.opensource.priorify.priorify_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 200;
+    private static final long LONG_OPEN_MILLIS = 60_000; // 테스트 중 만료되지 않는 OPEN 시간
+
+    @Test
+    @DisplayName("연속 실패가 임계값에 도달하면 OPEN 이 되고 호출을 거부한다")
+    void opensAfterThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(3, LONG_OPEN_MILLIS);
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertFalse(breaker.isOpen());
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수가 초기화된다")
+    void successResetsFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(2, LONG_OPEN_MILLIS);
+
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 HALF_OPEN 에서 시험 호출 하나만 허용한다")
+    void halfOpenAllowsSingleTrial() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker();
+
+        Thread.sleep(OPEN_MILLIS + 100);
+        assertFalse(breaker.isOpen());
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 성공하면 CLOSED 로 돌아간다")
+    void trialSuccessCloses() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker();
+        Thread.sleep(OPEN_MILLIS + 100);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 바로 다시 OPEN 이 된다")
+    void trialFailureReopens() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker();
+        Thread.sleep(OPEN_MILLIS + 100);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("awaitTrial 은 시험 호출 결과가 나올 때까지 기다린다")
+    void awaitTrialWaitsForTrialResult() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker();
+        Thread.sleep(OPEN_MILLIS + 100);
+        assertTrue(breaker.tryAcquire());
+
+        Thread trial = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            breaker.onSuccess();
+        });
+        trial.start();
+
+        long startedAt = System.nanoTime();
+        breaker.awaitTrial(LONG_OPEN_MILLIS);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        trial.join();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(elapsedMillis >= 50, "시험 호출 결과를 기다리지 않음: " + elapsedMillis + "ms");
+        assertTrue(elapsedMillis < 5_000, "시험 호출이 끝난 뒤에도 대기함: " + elapsedMillis + "ms");
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값은 거부한다")
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0, OPEN_MILLIS));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(1, 0));
+    }
+
+    private static CircuitBreaker openBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(1, OPEN_MILLIS);
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
@@ -0,0 +1,60 @@
+package com.dku.opensource.priorify.priorify_backend.util;
+
+import org.bson.types.Binary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmbeddingVectorCodecTest {
+
+    @Test
+    @DisplayName("float32 벡터는 subtype 9 Binary 로 인코딩 후 그대로 복원된다")
+    void roundTrip() {
+        float[] values = {0.0f, 1.5f, -2.25f, Float.MIN_VALUE, Float.MAX_VALUE};
+
+        Binary binary = EmbeddingVectorCodec.encode(values);
+
+        assertEquals(EmbeddingVectorCodec.VECTOR_SUBTYPE, binary.getType());
+        assertArrayEquals(values, EmbeddingVectorCodec.decode(binary));
+    }
+
+    @Test
+    @DisplayName("헤더는 dtype 0x27, padding 0 이고 값은 little-endian 으로 저장된다")
+    void headerAndByteOrder() {
+        byte[] data = EmbeddingVectorCodec.encode(new float[]{1.0f}).getData();
+
+        // 1.0f = 0x3F800000 -> little-endian 00 00 80 3F
+        assertArrayEquals(new byte[]{0x27, 0x00, 0x00, 0x00, (byte) 0x80, 0x3F}, data);
+    }
+
+    @Test
+    @DisplayName("빈 벡터도 헤더만 있는 Binary 로 왕복된다")
+    void emptyVector() {
+        Binary binary = EmbeddingVectorCodec.encode(new float[0]);
+
+        assertEquals(2, binary.getData().length);
+        assertEquals(0, EmbeddingVectorCodec.decode(binary).length);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 전 숫자 배열 형식도 디코딩된다")
+    void decodesLegacyNumberList() {
+        assertArrayEquals(new float[]{1.0f, 2.5f, -3.0f},
+                EmbeddingVectorCodec.decode(Arrays.asList(1.0, 2.5f, -3)));
+    }
+
+    @Test
+    @DisplayName("subtype, dtype, 길이가 맞지 않거나 숫자가 아닌 값이면 null")
+    void rejectsInvalidInput() {
+        assertNull(EmbeddingVectorCodec.decode(new Binary((byte) 0, new byte[]{0x27, 0x00, 0, 0, (byte) 0x80, 0x3F})));
+        assertNull(EmbeddingVectorCodec.decode(new Binary(EmbeddingVectorCodec.VECTOR_SUBTYPE, new byte[]{0x03, 0x00, 1})));
+        assertNull(EmbeddingVectorCodec.decode(new Binary(EmbeddingVectorCodec.VECTOR_SUBTYPE, new byte[]{0x27, 0x00, 0, 0, 0})));
+        assertNull(EmbeddingVectorCodec.decode(new Binary(EmbeddingVectorCodec.VECTOR_SUBTYPE, new byte[]{0x27})));
+        assertNull(EmbeddingVectorCodec.decode(Arrays.asList(1.0, "x")));
+        assertNull(EmbeddingVectorCodec.decode("not a vector"));
+        assertNull(EmbeddingVectorCodec.decode(null));
+    }
+}
@@ -0,0 +1,67 @@
+package com.dku.opensource.priorify.priorify_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketRateLimiterTest {
+
+    @Test
+    @DisplayName("burst 만큼은 대기 없이 바로 획득한다")
+    void burstIsImmediate() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 5);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+
+        assertTrue(elapsedMillis(startedAt) < 100, "burst 획득에 대기가 발생함");
+    }
+
+    @Test
+    @DisplayName("burst 를 다 쓰면 초당 permitsPerSecond 속도로 대기한다")
+    void waitsForRefillAfterBurst() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1); // 100ms 마다 1개
+
+        limiter.acquire();
+        long startedAt = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+
+        long elapsed = elapsedMillis(startedAt);
+        assertTrue(elapsed >= 180, "대기 시간이 너무 짧음: " + elapsed + "ms");
+        assertTrue(elapsed < 1000, "대기 시간이 너무 김: " + elapsed + "ms");
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 채워진 토큰은 burst 를 넘지 않는다")
+    void refillIsCappedAtBurst() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 2); // 50ms 마다 1개
+        limiter.acquire();
+        limiter.acquire();
+
+        TimeUnit.MILLISECONDS.sleep(500); // 10개 분량이 지나도 2개까지만 저장
+
+        long startedAt = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        assertTrue(elapsedMillis(startedAt) < 40, "저장된 토큰을 바로 사용하지 못함");
+        limiter.acquire();
+        assertTrue(elapsedMillis(startedAt) >= 40, "burst 를 넘는 토큰이 저장됨");
+    }
+
+    @Test
+    @DisplayName("속도나 burst 가 0 이하이면 생성할 수 없다")
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 0));
+    }
+
+    private static long elapsedMillis(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+}